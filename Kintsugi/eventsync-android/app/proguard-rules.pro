@@ -18,4 +18,34 @@
 
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
-#-renamesourcefileattribute SourceFile
\ No newline at end of file
+#-renamesourcefileattribute SourceFile
+
+# Rules for turning on isMinifyEnabled (R8 full mode) in release. Off until a release build
+# with them has been run end to end.
+
+# Retrofit: ApiService is only reached through a Proxy, and R8 full mode drops the generic
+# signatures and annotations Retrofit reads off its methods (Call<EventResponse> etc.)
+-keepattributes Signature, InnerClasses, EnclosingMethod, RuntimeVisibleAnnotations, RuntimeVisibleParameterAnnotations, AnnotationDefault
+-keep,allowobfuscation,allowshrinking interface retrofit2.Call
+-keep,allowobfuscation,allowshrinking class retrofit2.Response
+-keep,allowobfuscation,allowshrinking class kotlin.coroutines.Continuation
+-keep interface com.parapf.eventsync.APIs.ApiService { *; }
+
+# Gson: the request/response/page models are parsed by the streaming adapters in
+# APIs.Adapters (ModelTypeAdapterFactory). Keep them anyway, so a model that is added
+# without an adapter falls back to reflection instead of silently parsing to nulls.
+-keep class com.parapf.eventsync.APIs.Requests.** { <init>(); <fields>; }
+-keep class com.parapf.eventsync.APIs.Responses.** { <init>(); <fields>; }
+-keep class com.parapf.eventsync.APIs.UserData { <init>(); <fields>; }
+-keep class com.parapf.eventsync.models.PageDesign { <init>(); <fields>; }
+-keep class com.parapf.eventsync.models.PageBlock { <init>(); <fields>; }
+-keep class * extends com.google.gson.TypeAdapter
+-keep class * implements com.google.gson.TypeAdapterFactory
+
+# Room: the generated *_Impl classes are created by name
+-keep class * extends androidx.room.RoomDatabase { <init>(); }
+
+# WorkManager: SessionRefreshWorker is created by name through its (Context, WorkerParameters) constructor
+-keep class com.parapf.eventsync.APIs.SessionRefreshWorker {
+    public <init>(android.content.Context, androidx.work.WorkerParameters);
+}
@@ -1,10 +1,21 @@
 package com.parapf.eventsync.APIs;
 
 import android.content.Context;
+import android.util.Log;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.parapf.eventsync.APIs.Adapters.ModelTypeAdapterFactory;
+import com.parapf.eventsync.utils.StartupTimer;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
@@ -12,23 +23,88 @@ import retrofit2.converter.gson.GsonConverterFactory;
 
 public class ApiClient {
 
-    private static final String BASE_URL = "https://eventsync-1998.vercel.app/";
+    static final String BASE_URL = "https://eventsync-1998.vercel.app/";
+    private static final String CACHE_DIR = "http_cache";
+    private static final long CACHE_SIZE = 10L * 1024 * 1024; // 10 MB
+
+    // Idle connections outlive the Launcher -> MainActivity handoff by a wide margin
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
     private static Retrofit retrofit = null;
+    private static ApiService service = null;
+    private static Cache cache = null;
+    private static CompletableFuture<ApiService> ready = null;
+    private static final Object READY_LOCK = new Object();
 
-    public static ApiService getService(Context context) {
+    /**
+     * The service, building the client on a background thread the first time.
+     * Started from Application.onCreate so it's usually done before the first screen needs it.
+     */
+    public static CompletableFuture<ApiService> getServiceAsync(Context context) {
+        // Own lock: getService holds the class lock for the whole build
+        synchronized (READY_LOCK) {
+            if (ready == null) {
+                Context app = context.getApplicationContext();
+                CompletableFuture<ApiService> future = new CompletableFuture<>();
+                new Thread(() -> {
+                    try {
+                        future.complete(getService(app));
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                }, "api-client-init").start();
+                ready = future;
+            }
+            return ready;
+        }
+    }
+
+    /**
+     * The service, built on the calling thread if nobody has built it yet
+     * (waits for a background build that's already running)
+     */
+    public static synchronized ApiService getService(Context context) {
         // Return existing instance if it's already built to avoid re-creating the client
-        if (retrofit == null) {
+        if (service == null) {
             HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
             logging.setLevel(HttpLoggingInterceptor.Level.BODY);
 
-            // Create the client with our dynamic AuthInterceptor
+            // Size-bounded disk cache; OkHttp revalidates stale entries with ETag/Last-Modified
+            cache = new Cache(new File(context.getApplicationContext().getCacheDir(), CACHE_DIR), CACHE_SIZE);
+
+            // Credentials are read from memory on each request, never from disk
+            TokenManager tokens = TokenManager.getInstance(context);
+            CredentialStore credentials = tokens.getCredentials();
+            AuthInterceptor auth = new AuthInterceptor(credentials);
+
+            // A burst of 401s revalidates the session once, then replays or fails together
+            Context app = context.getApplicationContext();
+            SessionAuthenticator authenticator = new SessionAuthenticator(
+                    new GetSessionRevalidator(() -> service),
+                    auth,
+                    event -> SessionBootstrap.onSessionExpired(app, event));
+
+            ConnectionWarmer warmer = new ConnectionWarmer();
+
             OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                    .addInterceptor(new AuthInterceptor(context)) // Pass context
+                    .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                    .cache(cache)
+                    .cookieJar(tokens.getCookieJar()) // Session cookies, incl. server-side rotation
+                    .addInterceptor(auth)
+                    .authenticator(authenticator)
                     .addInterceptor(logging)
+                    .addNetworkInterceptor(new CachePolicyInterceptor()) // Per-endpoint freshness
+                    .addNetworkInterceptor(warmer) // Did the first request get the warm connection?
+                    .eventListener(LifecycleCallRegistry.bodySizeListener()) // Response sizes for cancel stats
                     .build();
 
+            // DNS + TLS run while Gson and Retrofit are set up and the splash inflates
+            warmer.warm(okHttpClient, HttpUrl.get(BASE_URL));
+
             // Configure Gson to handle nulls properly
             Gson gson = new GsonBuilder()
+                    .registerTypeAdapterFactory(new ModelTypeAdapterFactory()) // Streaming adapters, no reflection
                     .serializeNulls()  // Serialize null values
                     .setLenient()      // Be lenient with JSON parsing
                     .create();
@@ -36,9 +112,31 @@ public class ApiClient {
             retrofit = new Retrofit.Builder()
                     .baseUrl(BASE_URL)
                     .client(okHttpClient)
+                    // Share identical in-flight GETs, never across different sessions
+                    .addCallAdapterFactory(new CoalescingCallAdapterFactory(
+                            () -> tokens.getSessionCookie() + " " + credentials.identity()))
                     .addConverterFactory(GsonConverterFactory.create(gson))
                     .build();
+            service = retrofit.create(ApiService.class);
+            StartupTimer.mark(StartupTimer.Phase.CLIENT_READY);
+        }
+        return service;
+    }
+
+    /**
+     * Drop every cached response (logout), so the next user never sees the previous user's data
+     */
+    public static void clearCache() {
+        final Cache current = cache;
+        if (current == null) {
+            return;
         }
-        return retrofit.create(ApiService.class);
+        new Thread(() -> {
+            try {
+                current.evictAll();
+            } catch (IOException e) {
+                Log.e("API_CACHE", "Failed to clear HTTP cache: " + e.getMessage());
+            }
+        }, "http-cache-clear").start();
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ public class ApiErrorHandler {
                 Log.e("API_ERROR", "Bad Request (400)");
                 break;
             case 401:
+                // Still 401 after SessionAuthenticator revalidated (or the session is gone)
                 Log.e("API_ERROR", "Unauthorized! Token invalid or expired (401)");
                 break;
             case 403:
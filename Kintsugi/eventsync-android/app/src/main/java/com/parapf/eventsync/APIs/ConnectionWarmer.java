@@ -0,0 +1,105 @@
+package com.parapf.eventsync.APIs;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.parapf.eventsync.utils.StartupTimer;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Authenticator;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Connection;
+import okhttp3.CookieJar;
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Opens the connection to the API (DNS, TCP, TLS) with a HEAD request as soon as the client
+ * exists, so the Launcher's get-session finds it idle in the pool instead of paying the setup.
+ *
+ * The HEAD goes through a stripped copy of the client: same pool and TLS setup (so the
+ * connection is reusable), but no cookies, credentials, cache or interceptors.
+ *
+ * Also a network interceptor on the real client: the first request tells whether it got the
+ * warmed connection, and the setup time that saved goes into the startup trace.
+ */
+class ConnectionWarmer extends EventListener implements Interceptor {
+
+    private static final String TAG = "ConnectionWarmer";
+
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+
+    // Written by the warm-up call's listener, read by the first request
+    private volatile long callStartedAt;
+    private volatile long setupMillis = -1;
+    private volatile Connection warmed;
+
+    /**
+     * Start the warm-up HEAD; returns immediately
+     */
+    void warm(OkHttpClient client, HttpUrl url) {
+        OkHttpClient.Builder bare = client.newBuilder()
+                .cache(null)
+                .cookieJar(CookieJar.NO_COOKIES)
+                .authenticator(Authenticator.NONE)
+                .eventListener(this);
+        bare.interceptors().clear();
+        bare.networkInterceptors().clear();
+
+        Request head = new Request.Builder().url(url).head().build();
+        bare.build().newCall(head).enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                // Closing the response releases the connection back into the pool
+                response.close();
+            }
+
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                // Nothing lost: the first real request connects by itself
+                Log.d(TAG, "Warm-up failed: " + e.getMessage());
+            }
+        });
+    }
+
+    // === WARM-UP CALL ===
+
+    @Override
+    public void callStart(@NonNull Call call) {
+        callStartedAt = SystemClock.elapsedRealtime();
+    }
+
+    @Override
+    public void connectionAcquired(@NonNull Call call, @NonNull Connection connection) {
+        // DNS + connect + TLS, or ~0 if something else opened it first
+        setupMillis = SystemClock.elapsedRealtime() - callStartedAt;
+        warmed = connection;
+        StartupTimer.mark(StartupTimer.Phase.CONNECTION_WARM);
+    }
+
+    // === FIRST REQUEST ===
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        if (firstRequestSeen.compareAndSet(false, true)) {
+            Connection used = chain.connection();
+            boolean reused = used != null && used == warmed;
+            long saved = reused ? Math.max(setupMillis, 0) : 0;
+            Log.i(TAG, reused
+                    ? "First request reused the warm connection, saved " + saved + "ms of setup"
+                    : "First request did not get the warm connection (warm-up not done yet)");
+            StartupTimer.recordConnectSaved(saved);
+        }
+        return chain.proceed(chain.request());
+    }
+}
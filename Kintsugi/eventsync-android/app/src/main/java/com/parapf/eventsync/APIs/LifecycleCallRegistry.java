@@ -0,0 +1,184 @@
+package com.parapf.eventsync.APIs;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.EventListener;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Ties enqueued Retrofit calls to a LifecycleOwner (activity, or a fragment's view lifecycle)
+ * and cancels whatever is still running when the owner is destroyed, so a closed screen
+ * stops downloading and parsing a response nobody will look at.
+ *
+ * Callbacks of canceled calls are swallowed: screens never get onFailure("Canceled")
+ * after they're gone. Only for reads: a POST like sign-in must not be dropped on rotation.
+ *
+ * The list screens read through OfflineEventRepository instead; this is for one-off reads
+ * that belong to a single screen, like the event details sheet.
+ *
+ * Usage:
+ *   LifecycleCallRegistry.enqueue(getViewLifecycleOwner(), api.getEventById(id), new Callback<...>() { ... });
+ */
+public class LifecycleCallRegistry {
+
+    private static final String TAG = "CallRegistry";
+
+    // Owner -> its pending calls. Only touched from the main thread, guarded anyway.
+    private static final Map<LifecycleOwner, OwnerCalls> OWNERS = new HashMap<>();
+
+    // Last observed cost per endpoint path, used to estimate what a cancel saved
+    private static final Map<String, Long> lastBodyBytes = new ConcurrentHashMap<>();
+    private static final Map<String, Long> lastParseMillis = new ConcurrentHashMap<>();
+
+    private static final AtomicLong canceledCalls = new AtomicLong();
+    private static final AtomicLong bytesSaved = new AtomicLong();
+    private static final AtomicLong parseMillisSaved = new AtomicLong();
+
+    /**
+     * Enqueue a call bound to the owner's lifecycle
+     */
+    public static <T> void enqueue(@NonNull LifecycleOwner owner, @NonNull Call<T> call,
+                                   @NonNull Callback<T> callback) {
+        Lifecycle lifecycle = owner.getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+            // Owner is already gone, don't even start
+            return;
+        }
+
+        final OwnerCalls calls;
+        synchronized (OWNERS) {
+            OwnerCalls existing = OWNERS.get(owner);
+            if (existing == null) {
+                existing = new OwnerCalls(owner);
+                OWNERS.put(owner, existing);
+                lifecycle.addObserver(existing);
+            }
+            calls = existing;
+        }
+        calls.add(call);
+
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(@NonNull Call<T> c, @NonNull Response<T> response) {
+                calls.remove(call);
+                recordParseTime(call, response);
+                if (call.isCanceled()) return;
+                callback.onResponse(c, response);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<T> c, @NonNull Throwable t) {
+                calls.remove(call);
+                if (call.isCanceled()) return;
+                callback.onFailure(c, t);
+            }
+        });
+    }
+
+    /**
+     * OkHttp listener that records how many body bytes each endpoint really transfers
+     */
+    public static EventListener bodySizeListener() {
+        return new EventListener() {
+            @Override
+            public void responseBodyEnd(@NonNull okhttp3.Call call, long byteCount) {
+                lastBodyBytes.put(call.request().url().encodedPath(), byteCount);
+            }
+        };
+    }
+
+    // === STATS ===
+
+    public static long getCanceledCalls() { return canceledCalls.get(); }
+
+    /** Estimated response bytes not downloaded thanks to cancellation */
+    public static long getBytesSaved() { return bytesSaved.get(); }
+
+    /** Estimated body download + parse time not spent thanks to cancellation */
+    public static long getParseMillisSaved() { return parseMillisSaved.get(); }
+
+    private static void recordParseTime(Call<?> call, Response<?> response) {
+        // Served from the cache: receivedAt is from the original download, not this call
+        if (response.raw().networkResponse() == null) return;
+        long receivedAt = response.raw().receivedResponseAtMillis();
+        if (receivedAt <= 0) return;
+        // Headers arrived at receivedAt, the rest is reading + parsing the body
+        long elapsed = System.currentTimeMillis() - receivedAt;
+        if (elapsed >= 0) {
+            lastParseMillis.put(pathOf(call), elapsed);
+        }
+    }
+
+    private static void recordCanceled(Call<?> call, boolean stoppedNetwork) {
+        canceledCalls.incrementAndGet();
+        if (!stoppedNetwork) return;
+
+        String path = pathOf(call);
+        Long bytes = lastBodyBytes.get(path);
+        Long millis = lastParseMillis.get(path);
+        if (bytes != null) bytesSaved.addAndGet(bytes);
+        if (millis != null) parseMillisSaved.addAndGet(millis);
+    }
+
+    private static String pathOf(Call<?> call) {
+        return call.request().url().encodedPath();
+    }
+
+    // === PER-OWNER BOOKKEEPING ===
+
+    private static final class OwnerCalls implements DefaultLifecycleObserver {
+
+        private final LifecycleOwner owner;
+        private final Set<Call<?>> pending = new LinkedHashSet<>();
+
+        OwnerCalls(LifecycleOwner owner) {
+            this.owner = owner;
+        }
+
+        synchronized void add(Call<?> call) {
+            pending.add(call);
+        }
+
+        synchronized void remove(Call<?> call) {
+            pending.remove(call);
+        }
+
+        @Override
+        public void onDestroy(@NonNull LifecycleOwner source) {
+            source.getLifecycle().removeObserver(this);
+            synchronized (OWNERS) {
+                OWNERS.remove(owner);
+            }
+
+            Set<Call<?>> toCancel;
+            synchronized (this) {
+                toCancel = new LinkedHashSet<>(pending);
+                pending.clear();
+            }
+            if (toCancel.isEmpty()) return;
+
+            for (Call<?> call : toCancel) {
+                if (call.isCanceled()) continue;
+                // A coalesced call may only detach: the download goes on for the other callers
+                recordCanceled(call, CoalescingCallAdapterFactory.cancel(call));
+            }
+
+            Log.d(TAG, "Canceled " + toCancel.size() + " call(s) for " + owner.getClass().getSimpleName()
+                    + " | total saved ~" + bytesSaved.get() + " bytes, ~" + parseMillisSaved.get() + "ms");
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.parapf.eventsync.APIs;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.parapf.eventsync.APIs.Responses.SessionResponse;
+import com.parapf.eventsync.APIs.Responses.UserResponse;
+import com.parapf.eventsync.data.EventDetailsCache;
+import com.parapf.eventsync.data.OfflineEventRepository;
+import com.parapf.eventsync.utils.StartupTimer;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Single source for "who is signed in". Fires get-session and /api/user at the same time,
+ * merges both into one UserSessionManager snapshot (+ the persisted copy) once both have answered,
+ * and publishes one state change that the drawer header and role-gated menu observe.
+ *
+ * SIGNED_OUT is published only after signOutLocally() has run, so the user's data is gone even
+ * if no screen is observing; observers just navigate to Login.
+ *
+ * Only a definitive answer signs the user out (401, or a 200 without a session).
+ * Network errors and 5xx keep whatever session we already have.
+ *
+ * Main thread only: start() and the Retrofit callbacks all run there.
+ */
+public class SessionBootstrap {
+
+    private static final String TAG = "SessionBootstrap";
+
+    public enum Status {
+        /** Both requests in flight */
+        RUNNING,
+        /** Server confirmed the session; UserSessionManager and the snapshot are updated */
+        VALID,
+        /** Server says the session is gone */
+        SIGNED_OUT,
+        /** Couldn't tell (offline, timeout, server error); the current session is kept */
+        UNKNOWN
+    }
+
+    private static final MutableLiveData<Status> STATE = new MutableLiveData<>();
+    private static final Handler MAIN = new Handler(Looper.getMainLooper());
+
+    private static Round current;
+
+    public static LiveData<Status> getState() {
+        return STATE;
+    }
+
+    /**
+     * Start a bootstrap round unless one is already running
+     */
+    public static void start(Context context) {
+        if (current != null) return;
+
+        Context app = context.getApplicationContext();
+        String cookie = TokenManager.getInstance(app).getSessionCookie();
+        if (cookie == null) {
+            signOutLocally(app);
+            STATE.setValue(Status.SIGNED_OUT);
+            return;
+        }
+
+        Round round = new Round(app);
+        current = round;
+        STATE.setValue(Status.RUNNING);
+
+        // Don't build the client on the main thread; usually it's already warm (EventSyncApp)
+        ApiClient.getServiceAsync(app).whenComplete((api, error) -> {
+            if (error != null) {
+                MAIN.post(() -> round.abort("client init: " + error.getMessage()));
+                return;
+            }
+            StartupTimer.mark(StartupTimer.Phase.FIRST_REQUEST);
+            api.getSession().enqueue(round.sessionCallback());
+            api.getCurrentUser().enqueue(round.userCallback());
+        });
+    }
+
+    /**
+     * Start a round if the session hasn't been confirmed in this process yet
+     */
+    public static void ensureStarted(Context context) {
+        if (current == null && STATE.getValue() != Status.VALID) {
+            start(context);
+        }
+    }
+
+    /**
+     * Forget everything the signed-in user left behind: credentials, session snapshot,
+     * HTTP cache, cached lists
+     */
+    public static void signOutLocally(Context context) {
+        Context app = context.getApplicationContext();
+        TokenManager.getInstance(app).clearAll();
+        SessionStore.getInstance(app).clear();
+        UserSessionManager.getInstance().clearSession();
+        ApiClient.clearCache();
+        OfflineEventRepository.getInstance(app).clear();
+        EventDetailsCache.clear();
+        SessionRefreshScheduler.getInstance(app).cancel();
+
+        // The next sign-in starts from scratch
+        current = null;
+        STATE.setValue(null);
+    }
+
+    /**
+     * The API client gave up on the session (SessionAuthenticator): sign out once and let
+     * observers send the user to Login. Called on a network thread.
+     */
+    static void onSessionExpired(Context context, SessionExpiredEvent event) {
+        Context app = context.getApplicationContext();
+        MAIN.post(() -> {
+            if (STATE.getValue() == Status.SIGNED_OUT) return;
+            Log.d(TAG, "Session expired: " + event);
+            signOutLocally(app);
+            STATE.setValue(Status.SIGNED_OUT);
+        });
+    }
+
+    // === ONE ROUND ===
+
+    private static final class Round {
+
+        private final Context app;
+
+        private int pending = 2;
+        private boolean signedOut;
+
+        private SessionResponse session;
+        private UserData user;
+        private String failure;
+
+        Round(Context app) {
+            this.app = app;
+        }
+
+        Callback<SessionResponse> sessionCallback() {
+            return new Callback<SessionResponse>() {
+                @Override
+                public void onResponse(@NonNull Call<SessionResponse> call, @NonNull Response<SessionResponse> res) {
+                    if (res.code() == 401) {
+                        signedOut = true;
+                    } else if (!res.isSuccessful()) {
+                        failure = "get-session HTTP " + res.code();
+                    } else {
+                        // better-auth answers 200 with a null body when the cookie has no session
+                        SessionResponse data = res.body();
+                        if (data == null || data.session == null || data.user == null) {
+                            signedOut = true;
+                        } else {
+                            session = data;
+                        }
+                    }
+                    done();
+                }
+
+                @Override
+                public void onFailure(@NonNull Call<SessionResponse> call, @NonNull Throwable t) {
+                    failure = "get-session: " + t.getMessage();
+                    done();
+                }
+            };
+        }
+
+        Callback<UserResponse> userCallback() {
+            return new Callback<UserResponse>() {
+                @Override
+                public void onResponse(@NonNull Call<UserResponse> call, @NonNull Response<UserResponse> res) {
+                    if (res.code() == 401) {
+                        signedOut = true;
+                    } else if (res.isSuccessful() && res.body() != null
+                            && res.body().isSuccess() && res.body().getData() != null) {
+                        user = res.body().getData();
+                    } else {
+                        failure = "user HTTP " + res.code();
+                    }
+                    done();
+                }
+
+                @Override
+                public void onFailure(@NonNull Call<UserResponse> call, @NonNull Throwable t) {
+                    failure = "user: " + t.getMessage();
+                    done();
+                }
+            };
+        }
+
+        /** Neither request could be sent */
+        void abort(String reason) {
+            failure = reason;
+            pending = 1;
+            done();
+        }
+
+        private void done() {
+            if (--pending > 0) return;
+            if (current != this) return; // Signed out locally while we were waiting
+            current = null;
+
+            if (signedOut) {
+                Log.d(TAG, "Session rejected by server");
+                signOutLocally(app);
+                STATE.setValue(Status.SIGNED_OUT);
+                return;
+            }
+
+            if (session == null && user == null) {
+                Log.d(TAG, "Could not confirm session, keeping current one: " + failure);
+                // Try again ahead of the expiry we already know
+                SessionRefreshScheduler.getInstance(app).schedule();
+                STATE.setValue(Status.UNKNOWN);
+                return;
+            }
+
+            // Merge both answers into one snapshot so observers see a single change
+            UserSessionManager manager = UserSessionManager.getInstance();
+            SessionSnapshot merged = session != null ? toSnapshot(session) : manager.getSnapshot();
+            // /api/user is the authority on profile and role
+            merged = merged.withUserData(user);
+            manager.setSnapshot(merged);
+
+            SessionStore.getInstance(app).save(merged);
+            SessionRefreshScheduler.getInstance(app).schedule();
+
+            Log.d(TAG, "Session confirmed for " + merged.getUserEmail() + " (" + merged.getUserRole() + ")");
+            STATE.setValue(Status.VALID);
+        }
+    }
+
+    static SessionSnapshot toSnapshot(SessionResponse data) {
+        return SessionSnapshot.newBuilder()
+                .sessionToken(data.session.token)
+                .sessionExpiresAt(data.session.expiresAt)
+                .sessionCreatedAt(data.session.createdAt)
+                .sessionUpdatedAt(data.session.updatedAt)
+                .sessionIpAddress(data.session.ipAddress)
+                .sessionUserAgent(data.session.userAgent)
+                .sessionUserId(data.session.userId)
+                .sessionId(data.session.id)
+
+                .userName(data.user.name)
+                .userEmail(data.user.email)
+                .userEmailVerified(data.user.emailVerified)
+                .userImage(data.user.image)
+                .userCreatedAt(data.user.createdAt)
+                .userUpdatedAt(data.user.updatedAt)
+                .userRole(data.user.role)
+                .userBanned(data.user.banned)
+                .userBanReason(data.user.banReason)
+                .userBanExpires(data.user.banExpires)
+                .build();
+    }
+}
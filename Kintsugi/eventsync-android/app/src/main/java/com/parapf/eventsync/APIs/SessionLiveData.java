@@ -0,0 +1,42 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+
+/**
+ * UserSessionManager's snapshot as LiveData: screens observe it instead of re-reading the
+ * manager after each bootstrap round. Only listens while someone is observing.
+ */
+public class SessionLiveData extends LiveData<SessionSnapshot> implements UserSessionManager.Listener {
+
+    private static SessionLiveData INSTANCE;
+
+    private final UserSessionManager manager = UserSessionManager.getInstance();
+
+    private SessionLiveData() {}
+
+    public static synchronized SessionLiveData get() {
+        if (INSTANCE == null) {
+            INSTANCE = new SessionLiveData();
+        }
+        return INSTANCE;
+    }
+
+    @Override
+    protected void onActive() {
+        manager.addListener(this);
+        // Catch up on anything published while nobody was listening
+        setValue(manager.getSnapshot());
+    }
+
+    @Override
+    protected void onInactive() {
+        manager.removeListener(this);
+    }
+
+    @Override
+    public void onSessionChanged(@NonNull SessionSnapshot snapshot) {
+        // Snapshots are published from network and worker threads too
+        postValue(snapshot);
+    }
+}
@@ -0,0 +1,125 @@
+package com.parapf.eventsync.APIs;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.ProcessLifecycleOwner;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revalidates the session before sessionExpiresAt instead of finding out from a failed request
+ * (e.g. at the entrance scanner). Timing comes from SessionRefreshPolicy.
+ *
+ * In the foreground a main-thread timer runs a SessionBootstrap round; in the background the
+ * same deadline is handed to WorkManager (SessionRefreshWorker). Switching follows the process
+ * lifecycle, so only one of the two is ever armed.
+ *
+ * Main thread only.
+ */
+public class SessionRefreshScheduler implements DefaultLifecycleObserver {
+
+    private static final String TAG = "SessionRefresh";
+    static final String WORK_NAME = "session-refresh";
+
+    private static SessionRefreshScheduler INSTANCE;
+
+    private final Context app;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable foregroundRefresh = this::refreshNow;
+    private final Random random = new Random();
+
+    private boolean foreground;
+    private boolean active;
+
+    private SessionRefreshScheduler(Context context) {
+        app = context.getApplicationContext();
+    }
+
+    public static SessionRefreshScheduler getInstance(Context context) {
+        if (INSTANCE == null) {
+            INSTANCE = new SessionRefreshScheduler(context);
+            // Replays onStart right away if the app is already visible
+            ProcessLifecycleOwner.get().getLifecycle().addObserver(INSTANCE);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Plan the next refresh from the current session's expiry (call after every validation)
+     */
+    public void schedule() {
+        active = true;
+        arm();
+    }
+
+    /** Stop refreshing (logout) */
+    public void cancel() {
+        active = false;
+        handler.removeCallbacks(foregroundRefresh);
+        WorkManager.getInstance(app).cancelUniqueWork(WORK_NAME);
+    }
+
+    @Override
+    public void onStart(@NonNull LifecycleOwner owner) {
+        foreground = true;
+        if (active) arm();
+    }
+
+    @Override
+    public void onStop(@NonNull LifecycleOwner owner) {
+        foreground = false;
+        if (active) arm();
+    }
+
+    private void arm() {
+        handler.removeCallbacks(foregroundRefresh);
+
+        long delay = SessionRefreshPolicy.delayMillis(
+                UserSessionManager.getInstance().getSessionExpiresAt(), System.currentTimeMillis(), random);
+        if (delay < 0) {
+            WorkManager.getInstance(app).cancelUniqueWork(WORK_NAME);
+            return;
+        }
+
+        if (foreground) {
+            WorkManager.getInstance(app).cancelUniqueWork(WORK_NAME);
+            handler.postDelayed(foregroundRefresh, delay);
+            Log.d(TAG, "Foreground refresh in " + TimeUnit.MILLISECONDS.toSeconds(delay) + "s");
+        } else {
+            enqueueWork(app, delay, ExistingWorkPolicy.REPLACE);
+        }
+    }
+
+    private void refreshNow() {
+        // The round reschedules us once it has the new expiry (SessionBootstrap.done)
+        SessionBootstrap.start(app);
+    }
+
+    /**
+     * Background refresh after delay. The worker chains its next run with APPEND_OR_REPLACE
+     * so it doesn't cancel itself.
+     */
+    static void enqueueWork(Context context, long delayMillis, ExistingWorkPolicy policy) {
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(SessionRefreshWorker.class)
+                .setInitialDelay(delayMillis, TimeUnit.MILLISECONDS)
+                .setConstraints(new Constraints.Builder()
+                        .setRequiredNetworkType(NetworkType.CONNECTED)
+                        .build())
+                .build();
+        WorkManager.getInstance(context)
+                .enqueueUniqueWork(WORK_NAME, policy, request);
+        Log.d(TAG, "Background refresh in " + TimeUnit.MILLISECONDS.toSeconds(delayMillis) + "s");
+    }
+}
@@ -0,0 +1,74 @@
+package com.parapf.eventsync.APIs;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.parapf.eventsync.APIs.Responses.SessionResponse;
+
+import java.io.IOException;
+import java.util.Random;
+
+import retrofit2.Response;
+
+/**
+ * Background half of SessionRefreshScheduler: calls get-session (which extends the session and
+ * may rotate the cookie into the jar), stores the new expiry and chains the next run.
+ */
+public class SessionRefreshWorker extends Worker {
+
+    private static final String TAG = "SessionRefresh";
+
+    public SessionRefreshWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context app = getApplicationContext();
+        if (TokenManager.getInstance(app).getSessionCookie() == null) {
+            return Result.success(); // Signed out meanwhile
+        }
+
+        Response<SessionResponse> response;
+        try {
+            response = ApiClient.getService(app).getSession().execute();
+        } catch (IOException e) {
+            Log.d(TAG, "Background refresh failed, retrying: " + e.getMessage());
+            return Result.retry();
+        }
+
+        SessionResponse data = response.body();
+        if (response.code() == 401 || (response.isSuccessful()
+                && (data == null || data.session == null || data.user == null))) {
+            // Gone for good; the next launch's bootstrap signs out
+            Log.d(TAG, "Session ended while in background");
+            return Result.success();
+        }
+        if (!response.isSuccessful()) {
+            return Result.retry();
+        }
+
+        // Keep the profile/role /api/user gave us; only the session part is new
+        UserSessionManager manager = UserSessionManager.getInstance();
+        manager.update(previous -> {
+            SessionSnapshot refreshed = SessionBootstrap.toSnapshot(data);
+            return previous.getUserRole() != null
+                    ? refreshed.toBuilder().userRole(previous.getUserRole()).build()
+                    : refreshed;
+        });
+        SessionStore.getInstance(app).save(manager.getSnapshot());
+
+        long delay = SessionRefreshPolicy.delayMillis(
+                data.session.expiresAt, System.currentTimeMillis(), new Random());
+        if (delay >= 0) {
+            SessionRefreshScheduler.enqueueWork(app, delay, ExistingWorkPolicy.APPEND_OR_REPLACE);
+        }
+        return Result.success();
+    }
+}
@@ -0,0 +1,111 @@
+package com.parapf.eventsync.APIs;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+/**
+ * Persisted copy of the last server-validated SessionSnapshot,
+ * so the next cold start can open MainActivity without waiting for get-session.
+ *
+ * Written after every successful validation, wiped on logout.
+ */
+public class SessionStore {
+
+    private static final String PREFS_NAME = "session_snapshot";
+
+    private static final String KEY_SESSION_TOKEN = "session_token";
+    private static final String KEY_SESSION_EXPIRES_AT = "session_expires_at";
+    private static final String KEY_SESSION_ID = "session_id";
+    private static final String KEY_USER_ID = "user_id";
+    private static final String KEY_USER_NAME = "user_name";
+    private static final String KEY_USER_EMAIL = "user_email";
+    private static final String KEY_USER_EMAIL_VERIFIED = "user_email_verified";
+    private static final String KEY_USER_IMAGE = "user_image";
+    private static final String KEY_USER_CREATED_AT = "user_created_at";
+    private static final String KEY_USER_UPDATED_AT = "user_updated_at";
+    private static final String KEY_USER_ROLE = "user_role";
+    private static final String KEY_USER_BANNED = "user_banned";
+    private static final String KEY_USER_BAN_REASON = "user_ban_reason";
+    private static final String KEY_USER_BAN_EXPIRES = "user_ban_expires";
+
+    private static SessionStore INSTANCE;
+    private final SharedPreferences prefs;
+
+    private SessionStore(Context context) {
+        prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    public static synchronized SessionStore getInstance(Context context) {
+        if (INSTANCE == null) {
+            INSTANCE = new SessionStore(context);
+        }
+        return INSTANCE;
+    }
+
+    /** Persist a validated session snapshot */
+    public void save(SessionSnapshot session) {
+        if (!session.isAuthenticated()) return;
+
+        prefs.edit()
+                .putString(KEY_SESSION_TOKEN, session.getSessionToken())
+                .putString(KEY_SESSION_EXPIRES_AT, session.getSessionExpiresAt())
+                .putString(KEY_SESSION_ID, session.getSessionId())
+                .putString(KEY_USER_ID, session.getUserId())
+                .putString(KEY_USER_NAME, session.getUserName())
+                .putString(KEY_USER_EMAIL, session.getUserEmail())
+                .putBoolean(KEY_USER_EMAIL_VERIFIED, session.isUserEmailVerified())
+                .putString(KEY_USER_IMAGE, session.getUserImage())
+                .putString(KEY_USER_CREATED_AT, session.getUserCreatedAt())
+                .putString(KEY_USER_UPDATED_AT, session.getUserUpdatedAt())
+                .putString(KEY_USER_ROLE, session.getUserRole())
+                .putBoolean(KEY_USER_BANNED, session.isUserBanned())
+                .putString(KEY_USER_BAN_REASON, session.getUserBanReason())
+                .putString(KEY_USER_BAN_EXPIRES, session.getUserBanExpires())
+                .apply();
+    }
+
+    /**
+     * Load the snapshot into the session manager.
+     *
+     * @return false if there's no snapshot or its session has already expired
+     */
+    public boolean restoreInto(UserSessionManager session) {
+        String token = prefs.getString(KEY_SESSION_TOKEN, null);
+        String userId = prefs.getString(KEY_USER_ID, null);
+        String expiresAt = prefs.getString(KEY_SESSION_EXPIRES_AT, null);
+
+        if (token == null || userId == null || isExpired(expiresAt)) {
+            return false;
+        }
+
+        session.setSnapshot(SessionSnapshot.newBuilder()
+                .sessionToken(token)
+                .sessionExpiresAt(expiresAt)
+                .sessionUserId(userId)
+                .sessionId(prefs.getString(KEY_SESSION_ID, null))
+
+                .userName(prefs.getString(KEY_USER_NAME, null))
+                .userEmail(prefs.getString(KEY_USER_EMAIL, null))
+                .userEmailVerified(prefs.getBoolean(KEY_USER_EMAIL_VERIFIED, false))
+                .userImage(prefs.getString(KEY_USER_IMAGE, null))
+                .userCreatedAt(prefs.getString(KEY_USER_CREATED_AT, null))
+                .userUpdatedAt(prefs.getString(KEY_USER_UPDATED_AT, null))
+                .userRole(prefs.getString(KEY_USER_ROLE, null))
+                .userBanned(prefs.getBoolean(KEY_USER_BANNED, false))
+                .userBanReason(prefs.getString(KEY_USER_BAN_REASON, null))
+                .userBanExpires(prefs.getString(KEY_USER_BAN_EXPIRES, null))
+                .build());
+        return true;
+    }
+
+    /** Clear the snapshot (logout) */
+    public void clear() {
+        prefs.edit().clear().apply();
+    }
+
+    private static boolean isExpired(String expiresAt) {
+        long expiry = SessionRefreshPolicy.parseExpiresAt(expiresAt);
+        // Missing or unknown format: let the server decide
+        return expiry >= 0 && expiry <= System.currentTimeMillis();
+    }
+}
@@ -3,18 +3,54 @@ package com.parapf.eventsync.APIs;
 import android.content.Context;
 import android.content.SharedPreferences;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import okhttp3.Cookie;
+import okhttp3.HttpUrl;
+
+/**
+ * Credentials live in memory (CredentialStore for the token, PersistentCookieJar for session
+ * cookies); SharedPreferences is only read once at startup and written in the background.
+ */
 public class TokenManager {
 
     private static final String PREFS_NAME = "auth_prefs";
 
     private static final String KEY_AUTH_TOKEN = "auth_token";          // existing
-    private static final String KEY_SESSION_COOKIE = "session_cookie";  // new
+    private static final String KEY_SESSION_COOKIE = "session_cookie";  // legacy raw Set-Cookie, migrated
+    private static final String KEY_COOKIES = "cookies";
+
+    private static final String SESSION_COOKIE = "better-auth.session_token";
 
     private static TokenManager INSTANCE;
-    private final SharedPreferences prefs;
+    private final CredentialStore store;
+    private final PersistentCookieJar cookieJar;
+    private final HttpUrl apiUrl = HttpUrl.get(ApiClient.BASE_URL);
 
     private TokenManager(Context context) {
-        prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        SharedPreferences prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+
+        // Already off the main thread in both persisters, so commit() is fine and keeps writes in order
+        store = new CredentialStore(new CredentialStore.Credentials(prefs.getString(KEY_AUTH_TOKEN, null)),
+                credentials -> prefs.edit().putString(KEY_AUTH_TOKEN, credentials.getToken()).commit());
+
+        Set<String> saved = prefs.getStringSet(KEY_COOKIES, Collections.emptySet());
+        // The session cookie is kept even if the server sends it without an expiry
+        cookieJar = new PersistentCookieJar(saved,
+                cookies -> prefs.edit().putStringSet(KEY_COOKIES, new HashSet<>(cookies)).commit(),
+                Collections.singleton(SESSION_COOKIE));
+
+        // Sessions saved before the cookie jar existed: hand the raw header to the jar once
+        String legacy = prefs.getString(KEY_SESSION_COOKIE, null);
+        if (legacy != null) {
+            Cookie cookie = Cookie.parse(apiUrl, legacy);
+            if (cookie != null) {
+                cookieJar.saveFromResponse(apiUrl, Collections.singletonList(cookie));
+            }
+            prefs.edit().remove(KEY_SESSION_COOKIE).apply();
+        }
     }
 
     public static synchronized TokenManager getInstance(Context context) {
@@ -24,46 +60,51 @@ public class TokenManager {
         return INSTANCE;
     }
 
+    /** The in-memory store the AuthInterceptor reads on every request */
+    public CredentialStore getCredentials() {
+        return store;
+    }
+
+    /** Cookie jar of the API client; sign-in, rotation and sign-out cookies land here */
+    public PersistentCookieJar getCookieJar() {
+        return cookieJar;
+    }
+
     // =====================
     // ALREADY EXISTING (unchanged)
     // =====================
 
     /** Saves authentication token */
     public void saveToken(String token) {
-        prefs.edit().putString(KEY_AUTH_TOKEN, token).apply();
+        store.setToken(token);
     }
 
     /** Retrieves authentication token */
     public String getToken() {
-        return prefs.getString(KEY_AUTH_TOKEN, null);
+        return store.get().getToken();
     }
 
     /** Deletes authentication token */
     public void deleteToken() {
-        prefs.edit().remove(KEY_AUTH_TOKEN).apply();
+        store.setToken(null);
     }
 
     // =====================
-    // NEW COOKIE FEATURES (Sign-In / Session)
+    // SESSION COOKIE (managed by the cookie jar)
     // =====================
 
-    /** Stores the session cookie from Sign-In */
-    public void saveSessionCookie(String cookie) {
-        prefs.edit().putString(KEY_SESSION_COOKIE, cookie).apply();
-    }
-
-    /** Retrieves the session cookie for session & sign-out */
+    /**
+     * Cookie header the API is called with, or null when there's no unexpired session cookie
+     */
     public String getSessionCookie() {
-        return prefs.getString(KEY_SESSION_COOKIE, null);
-    }
-
-    /** Clears session cookie (logout) */
-    public void deleteSessionCookie() {
-        prefs.edit().remove(KEY_SESSION_COOKIE).apply();
+        String header = cookieJar.cookieHeader(apiUrl);
+        // Also matches the __Secure- prefixed name better-auth uses over https
+        return header != null && header.contains(SESSION_COOKIE) ? header : null;
     }
 
     /** Clear everything */
     public void clearAll() {
-        prefs.edit().clear().apply();
+        store.clear();
+        cookieJar.clear();
     }
 }
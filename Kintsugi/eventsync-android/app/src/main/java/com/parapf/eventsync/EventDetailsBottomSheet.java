@@ -1,5 +1,6 @@
 package com.parapf.eventsync;
 
+import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import android.view.LayoutInflater;
@@ -12,23 +13,19 @@ import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
 
 import com.google.android.material.bottomsheet.BottomSheetDialogFragment;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.parapf.eventsync.APIs.ApiClient;
 import com.parapf.eventsync.APIs.ApiService;
+import com.parapf.eventsync.APIs.LifecycleCallRegistry;
 import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.data.EventDetailsCache;
 import com.parapf.eventsync.models.PageDesign;
 import com.parapf.eventsync.utils.PageBlockRenderer;
-
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
-import java.util.TimeZone;
+import com.parapf.eventsync.utils.TimelineFormatter;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -59,7 +56,6 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
     private View pageContentDivider;
 
     private PageBlockRenderer pageRenderer;
-    private Gson gson;
 
     public static EventDetailsBottomSheet newInstance(String eventId) {
         EventDetailsBottomSheet fragment = new EventDetailsBottomSheet();
@@ -76,7 +72,6 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
             eventId = getArguments().getString(ARG_EVENT_ID);
         }
         pageRenderer = new PageBlockRenderer(requireContext());
-        gson = new Gson();
     }
 
     @Nullable
@@ -126,12 +121,33 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
             return;
         }
 
-        showLoading(true);
+        // Stale-while-revalidate: show what we had last time right away, refetch behind it
+        EventResponse.EventData cached = EventDetailsCache.get(eventId);
+        if (cached != null) {
+            showLoading(false);
+            displayEventDetails(cached);
+        } else {
+            showLoading(true);
+        }
 
-        ApiService api = ApiClient.getService(requireContext());
+        // The client is usually ready (EventSyncApp); if not, wait for it off the main thread
+        Context context = requireContext();
+        ApiClient.getServiceAsync(context).whenCompleteAsync((api, error) -> {
+            // Sheet closed while the client was being built
+            if (getView() == null) return;
+            if (error != null) {
+                onLoadFailed(error, cached);
+                return;
+            }
+            revalidate(api, cached);
+        }, ContextCompat.getMainExecutor(context));
+    }
+
+    private void revalidate(ApiService api, @Nullable EventResponse.EventData cached) {
         Call<EventResponse> call = api.getEventById(eventId);
 
-        call.enqueue(new Callback<EventResponse>() {
+        // Bound to the view: dismissing the sheet cancels the download
+        LifecycleCallRegistry.enqueue(getViewLifecycleOwner(), call, new Callback<EventResponse>() {
             @Override
             public void onResponse(Call<EventResponse> call, Response<EventResponse> response) {
                 // Check if fragment is still attached
@@ -143,6 +159,12 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
 
                 if (!response.isSuccessful() || response.body() == null) {
                     Log.e(TAG, "API Error: " + response.code());
+                    if (response.code() == 404) {
+                        EventDetailsCache.remove(eventId);
+                    } else if (cached != null) {
+                        // Keep showing the cached copy
+                        return;
+                    }
                     showToast("Failed to load event details");
                     dismiss();
                     return;
@@ -150,8 +172,14 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
 
                 EventResponse eventResponse = response.body();
                 if (eventResponse.isSuccess() && eventResponse.getData() != null) {
-                    displayEventDetails(eventResponse.getData());
+                    // Re-render (and rebuild the page views) only if the event actually changed
+                    if (EventDetailsCache.put(eventResponse.getData()) || cached == null) {
+                        displayEventDetails(eventResponse.getData());
+                    } else {
+                        Log.d(TAG, "Cached event " + eventId + " is up to date");
+                    }
                 } else {
+                    EventDetailsCache.remove(eventId);
                     showToast("Event not found");
                     dismiss();
                 }
@@ -159,19 +187,27 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
 
             @Override
             public void onFailure(Call<EventResponse> call, Throwable t) {
-                // Check if fragment is still attached
-                if (!isAdded() || getContext() == null) {
-                    return;
-                }
-
-                showLoading(false);
-                Log.e(TAG, "Network Error: " + t.getMessage(), t);
-                showToast("Network error: " + t.getMessage());
-                dismiss();
+                onLoadFailed(t, cached);
             }
         });
     }
 
+    private void onLoadFailed(Throwable t, @Nullable EventResponse.EventData cached) {
+        // Check if fragment is still attached
+        if (!isAdded() || getContext() == null) {
+            return;
+        }
+
+        showLoading(false);
+        Log.e(TAG, "Network Error: " + t.getMessage(), t);
+        if (cached != null) {
+            // Offline: the cached copy is better than nothing
+            return;
+        }
+        showToast("Network error: " + t.getMessage());
+        dismiss();
+    }
+
     private void displayEventDetails(EventResponse.EventData event) {
         // Check if fragment is still attached
         if (!isAdded() || getContext() == null) {
@@ -198,9 +234,9 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
         }
 
         // Set dates
-        eventStartDate.setText(formatDate(event.getStartDate()));
-        eventEndDate.setText(formatDate(event.getEndDate()));
-        eventDeadline.setText(formatDate(event.getRegistrationDeadline()));
+        eventStartDate.setText(TimelineFormatter.formatDate(event.getStartDate()));
+        eventEndDate.setText(TimelineFormatter.formatDate(event.getEndDate()));
+        eventDeadline.setText(TimelineFormatter.formatDate(event.getRegistrationDeadline()));
 
         // Set location
         eventLocation.setText(event.getLocation());
@@ -217,39 +253,31 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
         renderPageContent(event.getPage());
     }
 
-    private void renderPageContent(JsonObject pageJson) {
+    private void renderPageContent(PageDesign pageDesign) {
         // Check if fragment is still attached
         if (!isAdded() || getContext() == null) {
             return;
         }
 
-        // Check if pageJson is null or doesn't have blocks
-        if (pageJson == null || pageJson.isJsonNull() || !pageJson.has("blocks")) {
+        // The page was already decoded into blocks during the network parse
+        if (pageDesign == null || pageDesign.getBlocks() == null || pageDesign.getBlocks().isEmpty()) {
             pageContentContainer.setVisibility(View.GONE);
             pageContentDivider.setVisibility(View.GONE);
             return;
         }
 
         try {
-            // Parse JSONB to PageDesign object
-            PageDesign pageDesign = gson.fromJson(pageJson, PageDesign.class);
+            // Clear previous content
+            pageContentContainer.removeAllViews();
 
-            if (pageDesign != null && pageDesign.getBlocks() != null && !pageDesign.getBlocks().isEmpty()) {
-                // Clear previous content
-                pageContentContainer.removeAllViews();
+            // Render all blocks
+            pageRenderer.renderBlocks(pageDesign.getBlocks(), pageContentContainer);
 
-                // Render all blocks
-                pageRenderer.renderBlocks(pageDesign.getBlocks(), pageContentContainer);
+            // Show the container and divider
+            pageContentContainer.setVisibility(View.VISIBLE);
+            pageContentDivider.setVisibility(View.VISIBLE);
 
-                // Show the container and divider
-                pageContentContainer.setVisibility(View.VISIBLE);
-                pageContentDivider.setVisibility(View.VISIBLE);
-
-                Log.d(TAG, "Rendered " + pageDesign.getBlocks().size() + " page blocks");
-            } else {
-                pageContentContainer.setVisibility(View.GONE);
-                pageContentDivider.setVisibility(View.GONE);
-            }
+            Log.d(TAG, "Rendered " + pageDesign.getBlocks().size() + " page blocks");
         } catch (Exception e) {
             Log.e(TAG, "Error rendering page content: " + e.getMessage(), e);
             pageContentContainer.setVisibility(View.GONE);
@@ -257,35 +285,6 @@ public class EventDetailsBottomSheet extends BottomSheetDialogFragment {
         }
     }
 
-    private String formatDate(String isoDate) {
-        if (isoDate == null || isoDate.isEmpty()) {
-            return "N/A";
-        }
-
-        try {
-            // Try parsing with milliseconds first
-            SimpleDateFormat inputFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.getDefault());
-            inputFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-            Date date = inputFormat.parse(isoDate);
-
-            if (date == null) {
-                // Try without milliseconds (space separator format from API)
-                inputFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
-                date = inputFormat.parse(isoDate);
-            }
-
-            if (date != null) {
-                SimpleDateFormat outputFormat = new SimpleDateFormat("MMM dd, yyyy hh:mm a", Locale.getDefault());
-                return outputFormat.format(date);
-            }
-        } catch (ParseException e) {
-            Log.e(TAG, "Date parsing error for: " + isoDate + " - " + e.getMessage());
-        }
-
-        // Fallback: return as-is
-        return isoDate;
-    }
-
     private void showLoading(boolean isLoading) {
         if (!isAdded()) return;
 
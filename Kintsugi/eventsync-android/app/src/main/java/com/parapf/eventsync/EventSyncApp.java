@@ -0,0 +1,47 @@
+package com.parapf.eventsync;
+
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.parapf.eventsync.APIs.ApiClient;
+import com.parapf.eventsync.APIs.CoalescingCallAdapterFactory;
+import com.parapf.eventsync.utils.SharedViewPool;
+import com.parapf.eventsync.utils.StartupTimer;
+
+/**
+ * Starts building the networking stack (OkHttp, Gson, Retrofit, credentials) on a background
+ * thread before the Launcher's splash is even inflated.
+ * Under memory pressure, idle list cards (SharedViewPool) are the first thing let go.
+ */
+public class EventSyncApp extends Application {
+
+    private static final String TAG = "EventSyncApp";
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        StartupTimer.mark(StartupTimer.Phase.APPLICATION);
+        ApiClient.getServiceAsync(this);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        // Pooled cards were themed for the old night mode / font scale
+        SharedViewPool.onConfigurationChanged(newConfig);
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        if (level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
+            Log.d(TAG, "Backgrounded: " + CoalescingCallAdapterFactory.getNetworkCalls() + " calls sent, "
+                    + CoalescingCallAdapterFactory.getDeduplicatedCalls() + " served by an identical in-flight call");
+        }
+        SharedViewPool.trim(level);
+    }
+}
@@ -11,20 +11,16 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
+import androidx.paging.LoadState;
+import androidx.paging.PagingLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.parapf.eventsync.APIs.ApiClient;
-import com.parapf.eventsync.APIs.ApiService;
-import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.data.OfflineEventRepository;
 import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.utils.SharedViewPool;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
+import kotlin.Unit;
 
 public class Events extends AppCompatActivity {
 
@@ -32,12 +28,13 @@ public class Events extends AppCompatActivity {
     ProgressBar loadingBar;
 
     ItemEventsAdapter adapter;
-    List<EventModel> eventList = new ArrayList<>();
 
     private static final String TAG = "EventsPage";
 
     TextView empty;
 
+    OfflineEventRepository repository;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -60,7 +57,6 @@ public class Events extends AppCompatActivity {
 
         adapter = new ItemEventsAdapter(
                 this,
-                eventList,
                 new ItemEventsAdapter.OnEventClickListener() {
                     @Override
                     public void onLearnMore(EventModel event) {
@@ -76,10 +72,22 @@ public class Events extends AppCompatActivity {
                 }
         );
 
-        eventsRecycler.setLayoutManager(new LinearLayoutManager(this));
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        eventsRecycler.setLayoutManager(layoutManager);
+        // Cards from the app-wide pool (pre-inflated, or left by the last list screen)
+        SharedViewPool.get(this).attach(eventsRecycler, layoutManager);
         eventsRecycler.setAdapter(adapter);
 
-        fetchEvents();
+        adapter.addLoadStateListener(states -> {
+            render(states.getRefresh());
+            return Unit.INSTANCE;
+        });
+
+        // Cached pages show up right away; the mediator refreshes page 1 and fetches
+        // further pages while scrolling. cachedIn keeps loaded pages across re-observation.
+        repository = OfflineEventRepository.getInstance(this);
+        PagingLiveData.cachedIn(repository.getEventPages(), getLifecycle())
+                .observe(this, pagingData -> adapter.submitData(getLifecycle(), pagingData));
     }
 
     private void showEventDetails(String eventId) {
@@ -87,54 +95,17 @@ public class Events extends AppCompatActivity {
         bottomSheet.show(getSupportFragmentManager(), "EventDetailsBottomSheet");
     }
 
-    private void fetchEvents() {
-        loadingBar.setVisibility(View.VISIBLE);
-
-        ApiService api = ApiClient.getService(this);
-
-        Call<EventsListResponse> call = api.getEventsList(
-                1,
-                20,
-                "startDate",
-                "asc"
-        );
-
-        call.enqueue(new Callback<EventsListResponse>() {
-            @Override
-            public void onResponse(Call<EventsListResponse> call, Response<EventsListResponse> response) {
-                loadingBar.setVisibility(View.GONE);
-
-                if (!response.isSuccessful() || response.body() == null) {
-                    Log.e(TAG, "API Error: " + response.code());
-                    empty.setVisibility(View.VISIBLE);
-                    return;
-                }
+    private void render(LoadState refresh) {
+        boolean loading = refresh instanceof LoadState.Loading;
+        boolean nothingShown = adapter.getItemCount() == 0;
 
-                EventsListResponse result = response.body();
-
-                List<EventsListResponse.Event> apiEvents = result.getData().getEvents();
-                eventList.clear();
-
-                // Convert API model to your EventModel - NOW WITH ID
-                for (EventsListResponse.Event e : apiEvents) {
-                    EventModel model = new EventModel(
-                            e.getId(),  // ADD THIS - Pass the event ID
-                            e.getTitle(),
-                            e.getDescription(),
-                            e.getStartDate(),
-                            e.getLocation()
-                    );
-                    eventList.add(model);
-                }
+        if (refresh instanceof LoadState.Error) {
+            Log.e(TAG, "Refresh failed: " + ((LoadState.Error) refresh).getError().getMessage());
+        }
 
-                adapter.notifyDataSetChanged();
-            }
-
-            @Override
-            public void onFailure(Call<EventsListResponse> call, Throwable t) {
-                loadingBar.setVisibility(View.GONE);
-                Log.e(TAG, "Network Error: " + t.getMessage());
-            }
-        });
+        // Spinner only while there's nothing cached to look at
+        loadingBar.setVisibility(loading && nothingShown ? View.VISIBLE : View.GONE);
+        empty.setVisibility(!loading && nothingShown ? View.VISIBLE : View.GONE);
     }
+
 }
\ No newline at end of file
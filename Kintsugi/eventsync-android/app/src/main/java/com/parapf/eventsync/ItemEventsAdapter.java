@@ -1,25 +1,30 @@
 package com.parapf.eventsync;
 
 import android.content.Context;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.paging.PagingDataAdapter;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.parapf.eventsync.models.EventModel;
 import com.parapf.eventsync.R;
+import com.parapf.eventsync.utils.SharedViewPool;
 
-import java.util.List;
+import java.util.Objects;
 
-public class ItemEventsAdapter extends RecyclerView.Adapter<ItemEventsAdapter.EventViewHolder> {
+/**
+ * Paged events list. Items not loaded yet come in as null (placeholders) and are
+ * bound as an empty, non-clickable card until their page arrives.
+ */
+public class ItemEventsAdapter extends PagingDataAdapter<EventModel, ItemEventsAdapter.EventViewHolder> {
 
     private Context context;
-    private List<EventModel> eventList;
     private OnEventClickListener listener;
 
     public interface OnEventClickListener {
@@ -27,27 +32,71 @@ public class ItemEventsAdapter extends RecyclerView.Adapter<ItemEventsAdapter.Ev
         void onRegister(EventModel event);
     }
 
-    public ItemEventsAdapter(Context context, List<EventModel> eventList, OnEventClickListener listener) {
+    private static final DiffUtil.ItemCallback<EventModel> DIFF = new DiffUtil.ItemCallback<EventModel>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull EventModel oldItem, @NonNull EventModel newItem) {
+            return Objects.equals(oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull EventModel oldItem, @NonNull EventModel newItem) {
+            // Only what the card shows
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getDescription(), newItem.getDescription())
+                    && Objects.equals(oldItem.getTimeline(), newItem.getTimeline())
+                    && Objects.equals(oldItem.getVenue(), newItem.getVenue());
+        }
+    };
+
+    public ItemEventsAdapter(Context context, OnEventClickListener listener) {
+        super(DIFF);
         this.context = context;
-        this.eventList = eventList;
         this.listener = listener;
     }
 
+    @Override
+    public int getItemViewType(int position) {
+        // Keys the shared pool: one holder class per layout
+        return R.layout.item_events;
+    }
+
     @NonNull
     @Override
     public EventViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(context).inflate(R.layout.item_events, parent, false);
+        View view = SharedViewPool.get(context).inflate(R.layout.item_events, parent);
         return new EventViewHolder(view);
     }
 
+    @Override
+    public void onViewRecycled(@NonNull EventViewHolder holder) {
+        // Pooled cards outlive this screen, don't let them hold on to it
+        holder.learnMore.setOnClickListener(null);
+        holder.register.setOnClickListener(null);
+    }
+
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        EventModel event = eventList.get(position);
+        EventModel event = getItem(position);
+
+        if (event == null) {
+            // Placeholder
+            holder.title.setText("");
+            holder.desc.setText("");
+            holder.timeline.setText("");
+            holder.venue.setText("");
+            holder.learnMore.setOnClickListener(null);
+            holder.register.setOnClickListener(null);
+            holder.learnMore.setEnabled(false);
+            holder.register.setEnabled(false);
+            return;
+        }
 
         holder.title.setText(event.getTitle());
         holder.desc.setText(event.getDescription());
         holder.timeline.setText(event.getTimeline());
         holder.venue.setText(event.getVenue());
+        holder.learnMore.setEnabled(true);
+        holder.register.setEnabled(true);
 
         // Learn More Click
         holder.learnMore.setOnClickListener(v -> listener.onLearnMore(event));
@@ -56,11 +105,6 @@ public class ItemEventsAdapter extends RecyclerView.Adapter<ItemEventsAdapter.Ev
         holder.register.setOnClickListener(v -> listener.onRegister(event));
     }
 
-    @Override
-    public int getItemCount() {
-        return eventList.size();
-    }
-
     public static class EventViewHolder extends RecyclerView.ViewHolder {
 
         TextView title, desc, timeline, venue;
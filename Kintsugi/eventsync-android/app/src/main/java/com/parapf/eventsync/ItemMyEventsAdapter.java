@@ -1,73 +1,119 @@
 package com.parapf.eventsync;
 
 import android.content.Context;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
+import com.google.android.material.chip.Chip;
 import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.utils.SharedViewPool;
+import com.parapf.eventsync.utils.StableIds;
 
-import java.util.List;
+import java.util.Objects;
 
-public class ItemMyEventsAdapter extends RecyclerView.Adapter<ItemMyEventsAdapter.EventViewHolder> {
+/**
+ * Events the manager owns. Lists are diffed off the main thread (submitList), so a refresh
+ * only rebinds the cards that actually changed.
+ */
+public class ItemMyEventsAdapter extends ListAdapter<EventModel, ItemMyEventsAdapter.EventViewHolder> {
 
     private Context context;
-    private List<EventModel> eventList;
     private OnEventClickListener listener;
+    private final StableIds ids = new StableIds();
 
     public interface OnEventClickListener {
         void onAttendance(EventModel event);
     }
 
-    public ItemMyEventsAdapter(Context context, List<EventModel> eventList, OnEventClickListener listener) {
+    private static final DiffUtil.ItemCallback<EventModel> DIFF = new DiffUtil.ItemCallback<EventModel>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull EventModel oldItem, @NonNull EventModel newItem) {
+            return Objects.equals(oldItem.getId(), newItem.getId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull EventModel oldItem, @NonNull EventModel newItem) {
+            return oldItem.equals(newItem);
+        }
+    };
+
+    public ItemMyEventsAdapter(Context context, OnEventClickListener listener) {
+        super(DIFF);
         this.context = context;
-        this.eventList = eventList;
         this.listener = listener;
+        setHasStableIds(true);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return ids.of(getItem(position).getId());
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        // Keys the shared pool: one holder class per layout
+        return R.layout.item_own_events;
     }
 
     @NonNull
     @Override
     public EventViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(context).inflate(R.layout.item_events, parent, false);
+        // item_own_events: item_events has no attendance button
+        View view = SharedViewPool.get(context).inflate(R.layout.item_own_events, parent);
         return new EventViewHolder(view);
     }
 
+    @Override
+    public void onViewRecycled(@NonNull EventViewHolder holder) {
+        // Pooled cards outlive this screen, don't let them hold on to it
+        holder.attendance.setOnClickListener(null);
+    }
+
     @Override
     public void onBindViewHolder(@NonNull EventViewHolder holder, int position) {
-        EventModel event = eventList.get(position);
+        EventModel event = getItem(position);
 
         holder.title.setText(event.getTitle());
         holder.desc.setText(event.getDescription());
         holder.timeline.setText(event.getTimeline());
         holder.venue.setText(event.getLocation() != null ? event.getLocation() : event.getVenue());
 
-        // Show status badge if available
-        if (event.getStatus() != null) {
-            String status = event.getStatus();
-            // You can add a status indicator based on the status value
-            // e.g., published, draft, cancelled
+        // Status badge, reset every time: a recycled card may still show another event's status
+        String status = event.getStatus();
+        if (status != null) {
+            holder.statusBadge.setText(status.toUpperCase());
+            if ("published".equalsIgnoreCase(status)) {
+                holder.statusBadge.setChipBackgroundColorResource(R.color.md_primary);
+            } else if ("draft".equalsIgnoreCase(status)) {
+                holder.statusBadge.setChipBackgroundColorResource(R.color.md_secondary);
+            } else if ("cancelled".equalsIgnoreCase(status)) {
+                holder.statusBadge.setChipBackgroundColorResource(R.color.md_error);
+            } else {
+                holder.statusBadge.setChipBackgroundColorResource(R.color.light_primary);
+            }
+            holder.statusBadge.setVisibility(View.VISIBLE);
+        } else {
+            holder.statusBadge.setVisibility(View.GONE);
         }
 
         // Attendance button click
         holder.attendance.setOnClickListener(v -> listener.onAttendance(event));
     }
 
-    @Override
-    public int getItemCount() {
-        return eventList.size();
-    }
-
     public static class EventViewHolder extends RecyclerView.ViewHolder {
 
         TextView title, desc, timeline, venue;
         MaterialButton attendance;
         MaterialCardView card;
+        Chip statusBadge;
 
         public EventViewHolder(@NonNull View itemView) {
             super(itemView);
@@ -78,6 +124,7 @@ public class ItemMyEventsAdapter extends RecyclerView.Adapter<ItemMyEventsAdapte
             timeline = itemView.findViewById(R.id.timeline);
             venue = itemView.findViewById(R.id.venue);
             attendance = itemView.findViewById(R.id.attendance);
+            statusBadge = itemView.findViewById(R.id.statusBadge);
         }
     }
 }
\ No newline at end of file
@@ -1,47 +1,84 @@
 package com.parapf.eventsync;
 
 import android.content.Context;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.chip.Chip;
 import com.parapf.eventsync.models.RegistrationModel;
+import com.parapf.eventsync.utils.SharedViewPool;
+import com.parapf.eventsync.utils.StableIds;
 
-import java.util.List;
+import java.util.Objects;
 
-public class ItemRegisteredEventsAdapter extends RecyclerView.Adapter<ItemRegisteredEventsAdapter.RegistrationViewHolder> {
+/**
+ * The user's registrations. Lists are diffed off the main thread (submitList): a refresh
+ * where one registration changed status rebinds just that card.
+ */
+public class ItemRegisteredEventsAdapter extends ListAdapter<RegistrationModel, ItemRegisteredEventsAdapter.RegistrationViewHolder> {
 
     private Context context;
-    private List<RegistrationModel> registrationList;
     private OnRegistrationClickListener listener;
+    private final StableIds ids = new StableIds();
 
     public interface OnRegistrationClickListener {
         void onLearnMore(RegistrationModel registration);
     }
 
-    public ItemRegisteredEventsAdapter(Context context, List<RegistrationModel> registrationList, OnRegistrationClickListener listener) {
+    private static final DiffUtil.ItemCallback<RegistrationModel> DIFF = new DiffUtil.ItemCallback<RegistrationModel>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull RegistrationModel oldItem, @NonNull RegistrationModel newItem) {
+            return Objects.equals(oldItem.getRegistrationId(), newItem.getRegistrationId());
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull RegistrationModel oldItem, @NonNull RegistrationModel newItem) {
+            return oldItem.equals(newItem);
+        }
+    };
+
+    public ItemRegisteredEventsAdapter(Context context, OnRegistrationClickListener listener) {
+        super(DIFF);
         this.context = context;
-        this.registrationList = registrationList;
         this.listener = listener;
+        setHasStableIds(true);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return ids.of(getItem(position).getRegistrationId());
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        // Keys the shared pool: one holder class per layout
+        return R.layout.item_registered_events;
     }
 
     @NonNull
     @Override
     public RegistrationViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(context).inflate(R.layout.item_registered_events, parent, false);
+        View view = SharedViewPool.get(context).inflate(R.layout.item_registered_events, parent);
         return new RegistrationViewHolder(view);
     }
 
+    @Override
+    public void onViewRecycled(@NonNull RegistrationViewHolder holder) {
+        // Pooled cards outlive this screen, don't let them hold on to it
+        holder.learnMore.setOnClickListener(null);
+    }
+
     @Override
     public void onBindViewHolder(@NonNull RegistrationViewHolder holder, int position) {
-        RegistrationModel registration = registrationList.get(position);
+        RegistrationModel registration = getItem(position);
 
         holder.title.setText(registration.getEventTitle());
         holder.desc.setText(registration.getEventDescription());
@@ -49,9 +86,11 @@ public class ItemRegisteredEventsAdapter extends RecyclerView.Adapter<ItemRegist
         holder.venue.setText(registration.getLocation());
 
         // Show team name as a badge/chip (optional - you can add this to your layout)
-        if (holder.teamChip != null && registration.getTeamName() != null) {
-            holder.teamChip.setText(registration.getTeamName());
-            holder.teamChip.setVisibility(View.VISIBLE);
+        if (holder.teamChip != null) {
+            // Reset too: a recycled card may still show another registration's team
+            boolean hasTeam = registration.getTeamName() != null;
+            holder.teamChip.setText(hasTeam ? registration.getTeamName() : "");
+            holder.teamChip.setVisibility(hasTeam ? View.VISIBLE : View.GONE);
         }
 
         // Show registration status
@@ -77,11 +116,6 @@ public class ItemRegisteredEventsAdapter extends RecyclerView.Adapter<ItemRegist
         holder.learnMore.setOnClickListener(v -> listener.onLearnMore(registration));
     }
 
-    @Override
-    public int getItemCount() {
-        return registrationList.size();
-    }
-
     public static class RegistrationViewHolder extends RecyclerView.ViewHolder {
 
         TextView title, desc, timeline, venue;
@@ -2,7 +2,7 @@ package com.parapf.eventsync;
 
 import android.content.Intent;
 import android.os.Bundle;
-import android.widget.Toast;
+import android.util.Log;
 
 import androidx.activity.EdgeToEdge;
 import androidx.appcompat.app.AppCompatActivity;
@@ -10,21 +10,20 @@ import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 
-import com.parapf.eventsync.APIs.ApiClient;
-import com.parapf.eventsync.APIs.ApiService;
-import com.parapf.eventsync.APIs.Responses.SessionResponse;
+import com.parapf.eventsync.APIs.SessionBootstrap;
+import com.parapf.eventsync.APIs.SessionStore;
 import com.parapf.eventsync.APIs.TokenManager;
 import com.parapf.eventsync.APIs.UserSessionManager;
-
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
+import com.parapf.eventsync.utils.StartupTimer;
 
 public class Launcher extends AppCompatActivity {
 
+    private static final String TAG = "Launcher";
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        StartupTimer.mark(StartupTimer.Phase.LAUNCHER);
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_launcher);
         ViewCompat.setOnApplyWindowInsetsListener(findViewById(R.id.main), (v, insets) -> {
@@ -41,62 +40,38 @@ public class Launcher extends AppCompatActivity {
             return;
         }
 
-        ApiService api = ApiClient.getService(this);
-
-        api.getSession(cookie).enqueue(new Callback<SessionResponse>() {
-            @Override
-            public void onResponse(Call<SessionResponse> call, Response<SessionResponse> res) {
-
-                if (res.isSuccessful() && res.body() != null) {
-                    SessionResponse data = res.body();
-
-                    // fill in-memory session
-                    UserSessionManager.getInstance().saveSession(
-                            data.session.token,
-                            data.session.expiresAt,
-                            data.session.createdAt,
-                            data.session.updatedAt,
-                            data.session.ipAddress,
-                            data.session.userAgent,
-                            data.session.userId,
-                            data.session.id,
-
-                            data.user.name,
-                            data.user.email,
-                            data.user.emailVerified,
-                            data.user.image,
-                            data.user.createdAt,
-                            data.user.updatedAt,
-                            data.user.role,
-                            data.user.banned,
-                            data.user.banReason,
-                            data.user.banExpires
-                    );
+        // Optimistic start: the last validated session is good enough to open the app,
+        // the bootstrap asks the server in the background and MainActivity follows its result
+        if (SessionStore.getInstance(this).restoreInto(UserSessionManager.getInstance())) {
+            SessionBootstrap.start(this);
+            goToMain(StartupTimer.PATH_SNAPSHOT);
+            return;
+        }
 
+        // No usable snapshot (first start after login, or it expired): wait for the server once
+        SessionBootstrap.getState().observe(this, status -> {
+            if (status == null || status == SessionBootstrap.Status.RUNNING) return;
 
-                    if (UserSessionManager.getInstance().getUserId() != null) {
-                        goToMain();
-                    } else {
-                        goToLogin();
-                    }
-                } else {
-                    goToLogin();
-                }
-            }
-
-            @Override
-            public void onFailure(Call<SessionResponse> call, Throwable t) {
+            if (status == SessionBootstrap.Status.SIGNED_OUT) {
                 goToLogin();
+            } else {
+                // VALID, or UNKNOWN: offline or server trouble isn't a logout
+                Log.d(TAG, "Session bootstrap finished: " + status);
+                goToMain(StartupTimer.PATH_NETWORK);
             }
         });
+        SessionBootstrap.start(this);
     }
-    private void goToMain() {
-        startActivity(new Intent(this, MainActivity.class));
+
+    private void goToMain(String startupPath) {
+        startActivity(new Intent(this, MainActivity.class)
+                .putExtra(StartupTimer.EXTRA_PATH, startupPath));
         finish();
     }
 
     private void goToLogin() {
-        startActivity(new Intent(this, Login.class));
+        startActivity(new Intent(this, Login.class)
+                .putExtra(StartupTimer.EXTRA_PATH, StartupTimer.PATH_SIGNED_OUT));
         finish();
     }
-}
\ No newline at end of file
+}
@@ -12,22 +12,14 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
+import androidx.lifecycle.ViewModelProvider;
 
-import com.parapf.eventsync.APIs.ApiClient;
-import com.parapf.eventsync.APIs.ApiService;
-import com.parapf.eventsync.APIs.Requests.SignInRequest;
-import com.parapf.eventsync.APIs.Responses.SignInResponse;
-import com.parapf.eventsync.APIs.TokenManager;
-
-import org.json.JSONObject;
-
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
+import com.parapf.eventsync.utils.StartupTimer;
 
 public class Login extends AppCompatActivity {
 
     EditText emailTV, passwordTV;
+    private LoginViewModel viewModel;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -62,60 +54,34 @@ public class Login extends AppCompatActivity {
 
             performLogin(email, password);
         });
-    }
-
-    private void performLogin(String email, String password) {
-
-        ApiService api = ApiClient.getService(this);
-        SignInRequest body = new SignInRequest(email, password);
-
-        api.signIn(body).enqueue(new Callback<SignInResponse>() {
-            @Override
-            public void onResponse(Call<SignInResponse> call, Response<SignInResponse> response) {
-
-                if (response.isSuccessful()) {
-
-                    // *** GET COOKIE FROM HEADERS ***
-                    String cookie = response.headers().get("Set-Cookie");
 
-                    if (cookie != null && cookie.contains("better-auth.session_token")) {
-                        TokenManager.getInstance(Login.this).saveSessionCookie(cookie);
-                    }
+        // Sign-in survives rotation, the recreated screen shows how it went
+        viewModel = new ViewModelProvider(this).get(LoginViewModel.class);
+        viewModel.getOutcome().observe(this, this::showOutcome);
 
-                    Toast.makeText(Login.this, "Login Successful!", Toast.LENGTH_SHORT).show();
-
-                    startActivity(new Intent(Login.this, MainActivity.class));
-                    finish();
-                }
-                else {
-                    // Extract error JSON
-                    try {
-                        String errJson = response.errorBody().string();
-                        JSONObject obj = new JSONObject(errJson);
+        StartupTimer.reportFirstScreen(this);
+    }
 
-                        String msg = obj.optString("message", "Login failed");
+    private void performLogin(String email, String password) {
+        viewModel.signIn(email, password);
+    }
 
-                        new AlertDialog.Builder(Login.this)
-                                .setTitle("Error")
-                                .setMessage(msg)
-                                .setPositiveButton("OK", null)
-                                .show();
+    private void showOutcome(LoginViewModel.Outcome outcome) {
+        if (outcome == null) return;
+        viewModel.outcomeHandled();
 
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        Toast.makeText(Login.this, "Unexpected error", Toast.LENGTH_SHORT).show();
-                    }
-                }
-            }
+        if (outcome.isSuccess()) {
+            Toast.makeText(Login.this, "Login Successful!", Toast.LENGTH_SHORT).show();
 
-            @Override
-            public void onFailure(Call<SignInResponse> call, Throwable t) {
-                new AlertDialog.Builder(Login.this)
-                        .setTitle("Network Error")
-                        .setMessage(t.getLocalizedMessage())
-                        .setPositiveButton("OK", null)
-                        .show();
-            }
-        });
+            startActivity(new Intent(Login.this, MainActivity.class));
+            finish();
+            return;
+        }
+
+        new AlertDialog.Builder(Login.this)
+                .setTitle(outcome.getTitle())
+                .setMessage(outcome.getMessage())
+                .setPositiveButton("OK", null)
+                .show();
     }
 }
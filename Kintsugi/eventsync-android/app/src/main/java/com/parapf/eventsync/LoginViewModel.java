@@ -0,0 +1,107 @@
+package com.parapf.eventsync;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.parapf.eventsync.APIs.ApiClient;
+import com.parapf.eventsync.APIs.ApiService;
+import com.parapf.eventsync.APIs.Requests.SignInRequest;
+import com.parapf.eventsync.APIs.Responses.SignInResponse;
+
+import org.json.JSONObject;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Runs the sign-in POST for Login. Sign-in isn't idempotent, so it must not be canceled when the
+ * activity is recreated (rotation): it lives here instead of in LifecycleCallRegistry, and the
+ * new activity picks up the outcome.
+ */
+public class LoginViewModel extends AndroidViewModel {
+
+    /** Finished sign-in: success, or the dialog to show */
+    public static final class Outcome {
+        private final boolean success;
+        private final String title;
+        private final String message;
+
+        private Outcome(boolean success, String title, String message) {
+            this.success = success;
+            this.title = title;
+            this.message = message;
+        }
+
+        public boolean isSuccess() { return success; }
+        public String getTitle() { return title; }
+        public String getMessage() { return message; }
+    }
+
+    private final MutableLiveData<Outcome> outcome = new MutableLiveData<>();
+
+    private volatile boolean signingIn;
+
+    public LoginViewModel(@NonNull Application application) {
+        super(application);
+    }
+
+    /** Latest outcome, null once handled */
+    public LiveData<Outcome> getOutcome() { return outcome; }
+
+    /** The screen showed the outcome, don't repeat it after the next rotation */
+    public void outcomeHandled() {
+        outcome.setValue(null);
+    }
+
+    public void signIn(String email, String password) {
+        if (signingIn) return;
+        signingIn = true;
+
+        // Never build the client on the main thread; usually it's already warm (EventSyncApp)
+        ApiClient.getServiceAsync(getApplication()).whenComplete((api, error) -> {
+            if (error != null) {
+                signingIn = false;
+                outcome.postValue(new Outcome(false, "Network Error", error.getMessage()));
+                return;
+            }
+            send(api, new SignInRequest(email, password));
+        });
+    }
+
+    private void send(ApiService api, SignInRequest body) {
+        api.signIn(body)
+                .enqueue(new Callback<SignInResponse>() {
+                    @Override
+                    public void onResponse(@NonNull Call<SignInResponse> call,
+                                           @NonNull Response<SignInResponse> response) {
+                        signingIn = false;
+                        if (response.isSuccessful()) {
+                            // The session cookie was stored by the client's cookie jar
+                            outcome.setValue(new Outcome(true, null, null));
+                            return;
+                        }
+
+                        // Extract error JSON
+                        try {
+                            String errJson = response.errorBody().string();
+                            JSONObject obj = new JSONObject(errJson);
+                            outcome.setValue(new Outcome(false, "Error", obj.optString("message", "Login failed")));
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                            outcome.setValue(new Outcome(false, "Error", "Unexpected error"));
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(@NonNull Call<SignInResponse> call, @NonNull Throwable t) {
+                        signingIn = false;
+                        outcome.setValue(new Outcome(false, "Network Error", t.getLocalizedMessage()));
+                    }
+                });
+    }
+}
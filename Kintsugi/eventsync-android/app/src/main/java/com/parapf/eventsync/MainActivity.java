@@ -1,22 +1,17 @@
 package com.parapf.eventsync;
 
-import static android.content.ContentValues.TAG;
-
+import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
-import android.util.Log;
 import android.view.MenuItem;
 import android.view.View;
 import android.view.Menu;
 import android.widget.TextView;
-import android.widget.Toast;
 
-import com.google.android.material.snackbar.Snackbar;
 import com.google.android.material.navigation.NavigationView;
 
 import androidx.navigation.NavController;
 import androidx.navigation.Navigation;
-import androidx.navigation.fragment.NavHostFragment;
 import androidx.navigation.ui.AppBarConfiguration;
 import androidx.navigation.ui.NavigationUI;
 import androidx.drawerlayout.widget.DrawerLayout;
@@ -24,16 +19,18 @@ import androidx.appcompat.app.AppCompatActivity;
 
 import com.parapf.eventsync.APIs.ApiClient;
 import com.parapf.eventsync.APIs.ApiService;
-import com.parapf.eventsync.APIs.Responses.UserResponse;
+import com.parapf.eventsync.APIs.SessionBootstrap;
+import com.parapf.eventsync.APIs.SessionLiveData;
+import com.parapf.eventsync.APIs.SessionSnapshot;
 import com.parapf.eventsync.APIs.TokenManager;
-import com.parapf.eventsync.APIs.UserData;
-import com.parapf.eventsync.APIs.UserSessionManager;
+import com.parapf.eventsync.data.OfflineEventRepository;
 import com.parapf.eventsync.databinding.ActivityMainBinding;
+import com.parapf.eventsync.utils.SharedViewPool;
+import com.parapf.eventsync.utils.StartupTimer;
 
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
-import androidx.navigation.Navigation;
 
 
 
@@ -71,15 +68,22 @@ public class MainActivity extends AppCompatActivity {
         NavigationUI.setupWithNavController(navigationView, navController);
 
 
-        View headerView = binding.navView.getHeaderView(0);
-        TextView headerName = headerView.findViewById(R.id.header_name);
-        TextView headerEmail = headerView.findViewById(R.id.header_email);
-        headerName.setText(UserSessionManager.getInstance().getUserName());
-        headerEmail.setText(UserSessionManager.getInstance().getUserEmail());
-
-
+        // Header and role menu follow the session: the restored snapshot (if any) right away,
+        // then every change the bootstrap or a background refresh publishes
+        SessionLiveData.get().observe(this, session -> {
+            renderSession(session);
+            prefetch(session);
+        });
+        SessionBootstrap.getState().observe(this, status -> {
+            // Already signed out locally by SessionBootstrap
+            if (status == SessionBootstrap.Status.SIGNED_OUT) {
+                goToLogin();
+            }
+        });
+        // Coming from Login nothing has been fetched yet
+        SessionBootstrap.ensureStarted(this);
 
-        fetchCurrentUser();
+        StartupTimer.reportFirstScreen(this);
 
     }
 
@@ -107,31 +111,44 @@ public class MainActivity extends AppCompatActivity {
     }
 
     private void logout() {
-        ApiService api = ApiClient.getService(this);
         TokenManager tm = TokenManager.getInstance(this);
 
         String cookie = tm.getSessionCookie();
 
         if (cookie == null) {
             // Already logged out locally
-            tm.clearAll();
+            SessionBootstrap.signOutLocally(MainActivity.this);
             goToLogin();
             return;
         }
 
-        api.signOut(cookie).enqueue(new Callback<Void>() {
+        // Usually built long ago (EventSyncApp); never build it on the main thread
+        ApiClient.getServiceAsync(this).whenComplete((api, error) -> {
+            if (error != null) {
+                runOnUiThread(() -> {
+                    SessionBootstrap.signOutLocally(MainActivity.this);
+                    goToLogin();
+                });
+                return;
+            }
+            signOut(api);
+        });
+    }
+
+    private void signOut(ApiService api) {
+        api.signOut().enqueue(new Callback<Void>() {
             @Override
             public void onResponse(Call<Void> call, Response<Void> response) {
 
                 // Always delete local session once request hits backend
-                tm.clearAll();
+                SessionBootstrap.signOutLocally(MainActivity.this);
 
                 goToLogin();
             }
 
             @Override
             public void onFailure(Call<Void> call, Throwable t) {
-                tm.clearAll();
+                SessionBootstrap.signOutLocally(MainActivity.this);
                 goToLogin();
             }
         });
@@ -144,45 +161,35 @@ public class MainActivity extends AppCompatActivity {
 
 
 
-    private void fetchCurrentUser() {
-        ApiService api = ApiClient.getService(this);
-        String cookie = TokenManager.getInstance(this).getSessionCookie();
-
-        if (cookie == null) {
-            goToLogin();
-            return;
-        }
-        Call<UserResponse> call = api.getCurrentUser(cookie);
-        call.enqueue(new Callback<UserResponse>() {
-            @Override
-            public void onResponse(Call<UserResponse> call, Response<UserResponse> response) {
-                if (response.isSuccessful() && response.body() != null) {
-                    UserResponse userResponse = response.body();
-
-                    if (userResponse.isSuccess() && userResponse.getData() != null) {
-                        UserData userData = userResponse.getData();
-
-                        // Save to in-memory session manager
-                        UserSessionManager.getInstance().saveUserData(userData);
-
-                        if(UserSessionManager.getInstance().isManager()||UserSessionManager.getInstance().isAdmin()){
-                            binding.navView.getMenu().findItem(R.id.scan_qr).setVisible(true);
-                        }
+    /**
+     * Drawer header + role-gated menu items from one session snapshot
+     */
+    private void renderSession(SessionSnapshot session) {
+        View headerView = binding.navView.getHeaderView(0);
+        TextView headerName = headerView.findViewById(R.id.header_name);
+        TextView headerEmail = headerView.findViewById(R.id.header_email);
+        headerName.setText(session.getUserName());
+        headerEmail.setText(session.getUserEmail());
 
-                        Log.d(TAG, "User: " + userData.getName() + ", Role: " + userData.getRole());
-                    }
-                } else {
-                    Log.e(TAG, "Failed to fetch user data: " + response.code());
-                    Toast.makeText(MainActivity.this, "Failed to load user data", Toast.LENGTH_SHORT).show();
-                }
-            }
+        binding.navView.getMenu().findItem(R.id.scan_qr).setVisible(session.isManager() || session.isAdmin());
+    }
 
-            @Override
-            public void onFailure(Call<UserResponse> call, Throwable t) {
-                Log.e(TAG, "Network error: " + t.getMessage());
-                Toast.makeText(MainActivity.this, "Network error", Toast.LENGTH_SHORT).show();
-            }
-        });
+    /**
+     * Fill Room with this user's lists in parallel so the next screens open without a network
+     * wait. Waits for the client off the main thread, the repository needs it to exist.
+     */
+    private void prefetch(SessionSnapshot session) {
+        if (!session.isAuthenticated()) return;
+        Context app = getApplicationContext();
+        ApiClient.getServiceAsync(app).thenRun(() -> runOnUiThread(() ->
+                OfflineEventRepository.getInstance(app).prefetch(session)));
+
+        // The cards of the lists this user can open, inflated while they look at the home screen
+        SharedViewPool pool = SharedViewPool.get(this);
+        pool.preInflate(R.layout.item_events, R.layout.item_registered_events);
+        if (session.isManager() || session.isAdmin()) {
+            pool.preInflate(R.layout.item_own_events);
+        }
     }
 
     public void openQR(MenuItem item) {
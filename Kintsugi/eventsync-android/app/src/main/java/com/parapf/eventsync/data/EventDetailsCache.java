@@ -0,0 +1,56 @@
+package com.parapf.eventsync.data;
+
+import android.util.LruCache;
+
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+
+/**
+ * Process-wide LRU of parsed event details (event fields + decoded PageDesign), bounded by
+ * an estimate of their heap size. Lets EventDetailsBottomSheet render a reopened event
+ * immediately and revalidate in the background.
+ *
+ * Entries are looked up by event id; a refetch that comes back with the same versions
+ * (EventDetailsCachePolicy) counts as unchanged.
+ */
+public final class EventDetailsCache {
+
+    // 1/32 of the heap, never more than 4 MB: a handful of big pages or dozens of small ones
+    private static final int MAX_BYTES =
+            (int) Math.min(Runtime.getRuntime().maxMemory() / 32, 4L * 1024 * 1024);
+
+    private static final LruCache<String, EventResponse.EventData> CACHE =
+            new LruCache<String, EventResponse.EventData>(MAX_BYTES) {
+                @Override
+                protected int sizeOf(String key, EventResponse.EventData value) {
+                    return EventDetailsCachePolicy.estimateBytes(value);
+                }
+            };
+
+    private EventDetailsCache() {
+    }
+
+    public static EventResponse.EventData get(String eventId) {
+        return eventId != null ? CACHE.get(eventId) : null;
+    }
+
+    /**
+     * Store a freshly fetched event.
+     *
+     * @return false when the cache already held the same version, i.e. nothing on screen needs to change
+     */
+    public static boolean put(EventResponse.EventData event) {
+        if (event == null || event.getId() == null) return false;
+
+        EventResponse.EventData previous = CACHE.put(event.getId(), event);
+        return previous == null || !EventDetailsCachePolicy.isSameVersion(previous, event);
+    }
+
+    public static void remove(String eventId) {
+        if (eventId != null) CACHE.remove(eventId);
+    }
+
+    /** Drop everything (logout) */
+    public static void clear() {
+        CACHE.evictAll();
+    }
+}
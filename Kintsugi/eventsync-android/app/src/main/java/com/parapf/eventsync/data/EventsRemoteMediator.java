@@ -0,0 +1,168 @@
+package com.parapf.eventsync.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.OptIn;
+import androidx.paging.ExperimentalPagingApi;
+import androidx.paging.ListenableFutureRemoteMediator;
+import androidx.paging.LoadType;
+import androidx.paging.PagingState;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.db.AppDatabase;
+import com.parapf.eventsync.db.EventDao;
+import com.parapf.eventsync.db.EventEntity;
+import com.parapf.eventsync.db.EventPageKey;
+import com.parapf.eventsync.models.EventModel;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the cached public events list one server page at a time as the user scrolls.
+ * Follows the response's pagination (page/totalPages) instead of guessing from item counts.
+ *
+ * REFRESH replaces the cached list with page 1, APPEND fetches the stored next page,
+ * PREPEND never happens (the list always starts at page 1).
+ *
+ * Pages are fetched on the network pool and only written on the writer thread, so a slow
+ * fetch never holds up other Room writes (logout's clear() included). A page fetched for the
+ * previous user (generation changed in between) is dropped.
+ *
+ * If page 1 was stored very recently (the MainActivity prefetch) the initial REFRESH is skipped
+ * and the screen shows the cached rows without touching the network.
+ */
+@OptIn(markerClass = ExperimentalPagingApi.class)
+class EventsRemoteMediator extends ListenableFutureRemoteMediator<Integer, EventEntity> {
+
+    private static final String LIST = EventEntity.LIST_PUBLIC;
+
+    // Page 1 younger than this is shown as is when the screen opens
+    private static final long FRESH_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final AppDatabase db;
+    private final EventDao eventDao;
+    private final EventRepository remote;
+    private final ListeningExecutorService network;
+    private final ListeningExecutorService writer;
+    private final int pageSize;
+    private final AtomicLong refreshedAt;
+    private final AtomicInteger generation;
+
+    /**
+     * @param refreshedAt when page 1 was last stored, shared with OfflineEventRepository's prefetch
+     * @param generation  OfflineEventRepository's sign-out counter
+     */
+    EventsRemoteMediator(AppDatabase db, EventRepository remote, ListeningExecutorService network,
+                         ListeningExecutorService writer, int pageSize, AtomicLong refreshedAt,
+                         AtomicInteger generation) {
+        this.db = db;
+        this.eventDao = db.eventDao();
+        this.remote = remote;
+        this.network = network;
+        this.writer = writer;
+        this.pageSize = pageSize;
+        this.refreshedAt = refreshedAt;
+        this.generation = generation;
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<InitializeAction> initializeFuture() {
+        boolean fresh = System.currentTimeMillis() - refreshedAt.get() < FRESH_MILLIS;
+        return Futures.immediateFuture(fresh
+                ? InitializeAction.SKIP_INITIAL_REFRESH
+                : InitializeAction.LAUNCH_INITIAL_REFRESH);
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<MediatorResult> loadFuture(@NonNull LoadType loadType,
+                                                       @NonNull PagingState<Integer, EventEntity> state) {
+        if (loadType == LoadType.PREPEND) {
+            return Futures.immediateFuture(new MediatorResult.Success(true));
+        }
+        int startedIn = generation.get();
+        ListenableFuture<MediatorResult> stored = Futures.transformAsync(
+                network.submit(() -> fetch(loadType)),
+                fetched -> fetched == null
+                        ? Futures.<MediatorResult>immediateFuture(new MediatorResult.Success(true))
+                        : writer.submit(() -> store(fetched, startedIn)),
+                MoreExecutors.directExecutor());
+        return Futures.catching(stored, IOException.class, MediatorResult.Error::new,
+                MoreExecutors.directExecutor());
+    }
+
+    /** The server page this load asks for, null when there is none left */
+    private Fetched fetch(LoadType loadType) throws IOException {
+        final int page;
+        if (loadType == LoadType.REFRESH) {
+            page = 1;
+        } else {
+            Integer next = eventDao.getNextPage(LIST);
+            if (next == null) {
+                return null;
+            }
+            page = next;
+        }
+        return new Fetched(page, remote.getEvents(page, pageSize));
+    }
+
+    private MediatorResult store(Fetched fetched, int startedIn) {
+        // Signed out while fetching: this page belongs to the previous user
+        if (generation.get() != startedIn) {
+            return new MediatorResult.Success(true);
+        }
+        boolean lastPage = storePage(db, fetched.page, pageSize, fetched.data);
+        if (fetched.page == 1) {
+            refreshedAt.set(System.currentTimeMillis());
+        }
+        return new MediatorResult.Success(lastPage);
+    }
+
+    /**
+     * Write one server page into the cached public list; page 1 replaces the whole list.
+     *
+     * @return true if it was the last page
+     */
+    static boolean storePage(AppDatabase db, int page, int pageSize, EventsListResponse.Data data) {
+        EventDao eventDao = db.eventDao();
+        List<EventModel> models = EventMapper.toEventModels(data.getEvents());
+        boolean lastPage = isLastPage(page, pageSize, models.size(), data.getPagination());
+        List<EventEntity> entities = EventEntity.fromModels(models, LIST, (page - 1) * pageSize);
+
+        db.runInTransaction(() -> {
+            if (page == 1) {
+                eventDao.deleteList(LIST);
+            }
+            eventDao.upsert(entities);
+            eventDao.setPageKey(new EventPageKey(LIST, lastPage ? null : page + 1));
+        });
+        return lastPage;
+    }
+
+    private static final class Fetched {
+        final int page;
+        final EventsListResponse.Data data;
+
+        Fetched(int page, EventsListResponse.Data data) {
+            this.page = page;
+            this.data = data;
+        }
+    }
+
+    private static boolean isLastPage(int page, int pageSize, int received, EventsListResponse.Pagination pagination) {
+        if (received == 0) return true;
+        if (pagination != null && pagination.getTotalPages() > 0) {
+            return page >= pagination.getTotalPages();
+        }
+        // No metadata: a short page is the last one
+        return received < pageSize;
+    }
+}
@@ -0,0 +1,335 @@
+package com.parapf.eventsync.data;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.OptIn;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
+import androidx.paging.ExperimentalPagingApi;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingDataTransforms;
+import androidx.paging.PagingLiveData;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.parapf.eventsync.APIs.ApiClient;
+import com.parapf.eventsync.APIs.SessionSnapshot;
+import com.parapf.eventsync.db.AppDatabase;
+import com.parapf.eventsync.db.EventDao;
+import com.parapf.eventsync.db.EventEntity;
+import com.parapf.eventsync.db.RegistrationDao;
+import com.parapf.eventsync.db.RegistrationEntity;
+import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.models.RegistrationModel;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offline-first source for the list screens. Screens observe the Room tables and
+ * get whatever was cached last time immediately; refresh*() fetches in the background
+ * and upserts, which pushes the new rows to the observers.
+ *
+ * The public events list is paged instead: Room serves pages, EventsRemoteMediator
+ * fetches the next server page when the user scrolls near the end of what's cached.
+ *
+ * Fetches run in parallel (they share one HTTP/2 connection); writes go through a single
+ * writer thread so a logout's clear() can't be overtaken by a fetch that started before it.
+ */
+public class OfflineEventRepository {
+
+    private static final String TAG = "OfflineEventRepo";
+
+    private static final int EVENTS_PAGE_SIZE = 20;
+
+    // Dropped pages are reloaded from Room, so at most this many events sit in memory
+    private static final int EVENTS_MAX_IN_MEMORY = 200;
+
+    // One per list the prefetch fans out to
+    private static final int FETCH_THREADS = 3;
+
+    /** How long a list counts as fresh when a screen comes back to it */
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    private static volatile OfflineEventRepository INSTANCE;
+
+    private final AppDatabase db;
+    private final EventDao eventDao;
+    private final RegistrationDao registrationDao;
+    private final EventRepository remote;
+
+    private final ExecutorService network = Executors.newFixedThreadPool(FETCH_THREADS, new NamedThreadFactory("event-fetch"));
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> new Thread(r, "event-refresh"));
+    // Same two executors, as the paging mediator wants them
+    private final ListeningExecutorService listeningNetwork = MoreExecutors.listeningDecorator(network);
+    private final ListeningExecutorService listeningWriter = MoreExecutors.listeningDecorator(writer);
+    // Rows -> UI models for the observed lists, so the screens only get ready-to-bind lists
+    private final ExecutorService mapper = Executors.newSingleThreadExecutor(r -> new Thread(r, "event-map"));
+
+    private final RefreshSlot myEvents = new RefreshSlot();
+    private final RefreshSlot registrations = new RefreshSlot();
+    private final RefreshSlot events = new RefreshSlot();
+
+    // Bumped by clear(): results fetched for the previous user are dropped
+    private final AtomicInteger generation = new AtomicInteger();
+    // When page 1 of the public list was last stored (prefetch or the screen's own refresh)
+    private final AtomicLong eventsRefreshedAt = new AtomicLong();
+    private String prefetchedFor;
+
+    private OfflineEventRepository(Context context) {
+        Context app = context.getApplicationContext();
+        AppDatabase db = AppDatabase.getInstance(app);
+
+        this.db = db;
+        eventDao = db.eventDao();
+        registrationDao = db.registrationDao();
+        // Created on the main thread (ViewModels, Events.onCreate): don't build the API client
+        // here, fetches wait for EventSyncApp's background build on their own threads
+        remote = new DeferredEventRepository(ApiClient.getServiceAsync(app).thenApply(RemoteEventRepository::new));
+    }
+
+    public static OfflineEventRepository getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (OfflineEventRepository.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new OfflineEventRepository(context);
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // === OBSERVE ===
+
+    /**
+     * Paged public events. Placeholders keep the scrollbar honest while pages load;
+     * the caller should cachedIn() it on its own lifecycle.
+     */
+    @OptIn(markerClass = ExperimentalPagingApi.class)
+    public LiveData<PagingData<EventModel>> getEventPages() {
+        PagingConfig config = new PagingConfig(
+                EVENTS_PAGE_SIZE,
+                EVENTS_PAGE_SIZE,       // prefetch distance
+                true,                   // placeholders
+                EVENTS_PAGE_SIZE * 2,   // initial load
+                EVENTS_MAX_IN_MEMORY
+        );
+        Pager<Integer, EventEntity> pager = new Pager<>(
+                config,
+                null,
+                // Fetch on the network pool, store on the writer: page writes stay ordered with clear()
+                new EventsRemoteMediator(db, remote, listeningNetwork, listeningWriter,
+                        EVENTS_PAGE_SIZE, eventsRefreshedAt, generation),
+                () -> eventDao.pagingSource(EventEntity.LIST_PUBLIC)
+        );
+        return Transformations.map(PagingLiveData.getLiveData(pager),
+                // Row -> model is a few field copies, run it on Paging's own background thread
+                pagingData -> PagingDataTransforms.map(pagingData, MoreExecutors.directExecutor(), EventEntity::toModel));
+    }
+
+    public LiveData<List<EventModel>> getMyEvents() {
+        return mapInBackground(eventDao.observe(EventEntity.LIST_MANAGED), EventEntity::toModels);
+    }
+
+    public LiveData<List<RegistrationModel>> getRegistrations() {
+        return mapInBackground(registrationDao.observe(), RegistrationEntity::toModels);
+    }
+
+    public LiveData<RefreshState> getMyEventsState() { return myEvents.state; }
+    public LiveData<RefreshState> getRegistrationsState() { return registrations.state; }
+
+    // === REFRESH ===
+
+    public void refreshMyEvents() {
+        refresh(myEvents, remote::getMyEvents, models -> eventDao.replaceList(EventEntity.LIST_MANAGED,
+                EventEntity.fromModels(models, EventEntity.LIST_MANAGED)));
+    }
+
+    public void refreshRegistrations() {
+        refresh(registrations, remote::getRegistrations,
+                models -> registrationDao.replaceAll(RegistrationEntity.fromModels(models)));
+    }
+
+    /**
+     * Refetch only if the list is older than ttlMillis (or was cleared by a logout).
+     * @return whether a request went out
+     */
+    public boolean refreshMyEventsIfStale(long ttlMillis) {
+        return refreshIfStale(myEvents, ttlMillis, "My events", this::refreshMyEvents);
+    }
+
+    public boolean refreshRegistrationsIfStale(long ttlMillis) {
+        return refreshIfStale(registrations, ttlMillis, "Registrations", this::refreshRegistrations);
+    }
+
+    /**
+     * Store page 1 of the public list, so the Events screen opens without a network wait
+     */
+    public void refreshEvents() {
+        refresh(events, () -> remote.getEvents(1, EVENTS_PAGE_SIZE), data -> {
+            EventsRemoteMediator.storePage(db, 1, EVENTS_PAGE_SIZE, data);
+            eventsRefreshedAt.set(System.currentTimeMillis());
+        });
+    }
+
+    /**
+     * Fan out everything the signed-in user is about to look at, once per user per process.
+     * Main thread (called as the session snapshot arrives in MainActivity).
+     */
+    public void prefetch(SessionSnapshot session) {
+        if (!session.isAuthenticated() || Objects.equals(session.getUserId(), prefetchedFor)) return;
+        prefetchedFor = session.getUserId();
+
+        refreshRegistrations();
+        refreshEvents();
+        // Only managers and admins have a "my events" list
+        if (session.isManager() || session.isAdmin()) {
+            refreshMyEvents();
+        }
+    }
+
+    /**
+     * Drop everything cached for the current user (logout)
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        prefetchedFor = null;
+        eventsRefreshedAt.set(0);
+        myEvents.invalidate();
+        registrations.invalidate();
+        events.invalidate();
+        writer.execute(() -> {
+            eventDao.clear();
+            registrationDao.clear();
+        });
+    }
+
+    private boolean refreshIfStale(RefreshSlot slot, long ttlMillis, String name, Runnable refresh) {
+        long refreshedAt = slot.refreshedAt;
+        long age = System.currentTimeMillis() - refreshedAt;
+        if (refreshedAt > 0 && age < ttlMillis) {
+            Log.d(TAG, name + " fetched " + age / 1000 + "s ago, not refetching");
+            return false;
+        }
+        refresh.run();
+        return true;
+    }
+
+    private <T> void refresh(RefreshSlot slot, Fetch<T> fetch, Store<T> store) {
+        // A refresh of this list is already on its way, its result will reach the observers too
+        if (!slot.running.compareAndSet(false, true)) return;
+
+        slot.state.setValue(RefreshState.loading());
+        int startedIn = generation.get();
+        long startedAt = System.currentTimeMillis();
+        network.execute(() -> {
+            T result;
+            try {
+                result = fetch.get();
+            } catch (ApiException e) {
+                Log.e(TAG, "Refresh failed: HTTP " + e.getCode() + " " + e.getMessage());
+                finish(slot, RefreshState.error(e.getCode(), e.getMessage()));
+                return;
+            } catch (IOException | RuntimeException e) {
+                Log.e(TAG, "Refresh failed: " + e.getMessage(), e);
+                finish(slot, RefreshState.error(0, e.getMessage()));
+                return;
+            }
+
+            writer.execute(() -> {
+                try {
+                    // Signed out while fetching: this belongs to the previous user
+                    if (generation.get() == startedIn) {
+                        store.accept(result);
+                        slot.markRefreshed(startedAt);
+                    }
+                    finish(slot, RefreshState.success());
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Storing refresh failed: " + e.getMessage(), e);
+                    finish(slot, RefreshState.error(0, e.getMessage()));
+                }
+            });
+        });
+    }
+
+    /**
+     * Transformations.map, but the mapping runs on the mapper thread: a few hundred rows
+     * shouldn't cost the main thread anything. Results older than the latest emission are dropped.
+     */
+    private <A, B> LiveData<B> mapInBackground(LiveData<A> source, Function<A, B> mapFn) {
+        MediatorLiveData<B> result = new MediatorLiveData<>();
+        AtomicInteger latest = new AtomicInteger();
+        result.addSource(source, rows -> {
+            int version = latest.incrementAndGet();
+            mapper.execute(() -> {
+                B mapped = mapFn.apply(rows);
+                if (latest.get() == version) {
+                    result.postValue(mapped);
+                }
+            });
+        });
+        return result;
+    }
+
+    private static void finish(RefreshSlot slot, RefreshState state) {
+        slot.running.set(false);
+        slot.state.postValue(state);
+    }
+
+    private interface Fetch<T> {
+        T get() throws IOException;
+    }
+
+    private interface Store<T> {
+        void accept(T result);
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            return new Thread(r, name + "-" + count.incrementAndGet());
+        }
+    }
+
+    private static final class RefreshSlot {
+        final MutableLiveData<RefreshState> state = new MutableLiveData<>();
+        final AtomicBoolean running = new AtomicBoolean();
+
+        // When the data now stored was requested; 0 = never, or invalidated since
+        volatile long refreshedAt;
+        volatile long invalidatedAt;
+
+        void markRefreshed(long requestedAt) {
+            // A change made while this fetch was in flight may not be in its result
+            if (requestedAt > invalidatedAt) {
+                refreshedAt = requestedAt;
+            }
+        }
+
+        void invalidate() {
+            invalidatedAt = System.currentTimeMillis();
+            refreshedAt = 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.parapf.eventsync.data;
+
+/**
+ * Outcome of the latest background refresh of one cached list
+ */
+public final class RefreshState {
+
+    public enum Status { LOADING, SUCCESS, ERROR }
+
+    private final Status status;
+    private final int code;
+    private final String message;
+
+    private RefreshState(Status status, int code, String message) {
+        this.status = status;
+        this.code = code;
+        this.message = message;
+    }
+
+    static RefreshState loading() {
+        return new RefreshState(Status.LOADING, 0, null);
+    }
+
+    static RefreshState success() {
+        return new RefreshState(Status.SUCCESS, 0, null);
+    }
+
+    /** @param code HTTP status, 0 when the request never got an answer */
+    static RefreshState error(int code, String message) {
+        return new RefreshState(Status.ERROR, code, message);
+    }
+
+    public Status getStatus() { return status; }
+    public boolean isLoading() { return status == Status.LOADING; }
+    public boolean isError() { return status == Status.ERROR; }
+    public int getCode() { return code; }
+    public String getMessage() { return message; }
+}
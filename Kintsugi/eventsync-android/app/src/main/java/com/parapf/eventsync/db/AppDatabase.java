@@ -0,0 +1,36 @@
+package com.parapf.eventsync.db;
+
+import android.content.Context;
+
+import androidx.room.Database;
+import androidx.room.Room;
+import androidx.room.RoomDatabase;
+
+/**
+ * Local copy of what the list screens show, so they can render before the network answers
+ */
+@Database(entities = {EventEntity.class, EventPageKey.class, RegistrationEntity.class}, version = 2, exportSchema = false)
+public abstract class AppDatabase extends RoomDatabase {
+
+    private static final String DB_NAME = "eventsync.db";
+
+    private static volatile AppDatabase INSTANCE;
+
+    public abstract EventDao eventDao();
+
+    public abstract RegistrationDao registrationDao();
+
+    public static AppDatabase getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (AppDatabase.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = Room.databaseBuilder(context.getApplicationContext(), AppDatabase.class, DB_NAME)
+                            // It's only a cache, the server has the real data
+                            .fallbackToDestructiveMigration(true)
+                            .build();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,58 @@
+package com.parapf.eventsync.db;
+
+import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Upsert;
+
+import java.util.List;
+
+@Dao
+public abstract class EventDao {
+
+    @Query("SELECT * FROM events WHERE listType = :listType ORDER BY position")
+    public abstract LiveData<List<EventEntity>> observe(String listType);
+
+    /** Backing source for the paged Events screen, filled page by page by EventsRemoteMediator */
+    @Query("SELECT * FROM events WHERE listType = :listType ORDER BY position")
+    public abstract PagingSource<Integer, EventEntity> pagingSource(String listType);
+
+    @Upsert
+    public abstract void upsert(List<EventEntity> events);
+
+    @Query("DELETE FROM events WHERE listType = :listType")
+    public abstract void deleteList(String listType);
+
+    @Query("SELECT nextPage FROM event_page_keys WHERE listType = :listType")
+    public abstract Integer getNextPage(String listType);
+
+    @Upsert
+    public abstract void setPageKey(EventPageKey key);
+
+    @Query("DELETE FROM events")
+    protected abstract void deleteAllEvents();
+
+    @Query("DELETE FROM event_page_keys")
+    protected abstract void deleteAllPageKeys();
+
+    @Transaction
+    public void clear() {
+        deleteAllEvents();
+        deleteAllPageKeys();
+    }
+
+    /**
+     * Make the cached list match a fresh server list: drop the old rows, store what came back.
+     * One transaction, so observers get a single update. (Not "DELETE ... NOT IN (ids)": one
+     * bind variable per row breaks past SQLite's 999-variable limit on older devices.)
+     */
+    @Transaction
+    public void replaceList(String listType, List<EventEntity> events) {
+        deleteList(listType);
+        if (!events.isEmpty()) {
+            upsert(events);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.parapf.eventsync.db;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+
+import com.parapf.eventsync.models.EventModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cached event row. The same event can sit in several lists (public list, manager's events),
+ * so rows are keyed by (id, listType) and ordered by their position in that list.
+ */
+@Entity(tableName = "events", primaryKeys = {"id", "listType"})
+public class EventEntity {
+
+    public static final String LIST_PUBLIC = "public";
+    public static final String LIST_MANAGED = "managed";
+
+    @NonNull public String id = "";
+    @NonNull public String listType = LIST_PUBLIC;
+    public int position;
+
+    public String title;
+    public String description;
+    public String timeline;
+    public String venue;
+    public String imageUrl;
+    public String startDate;
+    public String endDate;
+    public String location;
+    public Integer maxCapacity;
+    public String registrationDeadline;
+    public String status;
+
+    public static EventEntity from(EventModel model, String listType, int position) {
+        EventEntity e = new EventEntity();
+        e.id = model.getId();
+        e.listType = listType;
+        e.position = position;
+        e.title = model.getTitle();
+        e.description = model.getDescription();
+        e.timeline = model.getTimeline();
+        e.venue = model.getVenue();
+        e.imageUrl = model.getImageUrl();
+        e.startDate = model.getStartDate();
+        e.endDate = model.getEndDate();
+        e.location = model.getLocation();
+        e.maxCapacity = model.getMaxCapacity();
+        e.registrationDeadline = model.getRegistrationDeadline();
+        e.status = model.getStatus();
+        return e;
+    }
+
+    public static List<EventEntity> fromModels(List<EventModel> models, String listType) {
+        return fromModels(models, listType, 0);
+    }
+
+    /** @param firstPosition list position of the first model, e.g. (page - 1) * pageSize */
+    public static List<EventEntity> fromModels(List<EventModel> models, String listType, int firstPosition) {
+        List<EventEntity> entities = new ArrayList<>(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            entities.add(from(models.get(i), listType, firstPosition + i));
+        }
+        return entities;
+    }
+
+    public EventModel toModel() {
+        return new EventModel(id, title, description, timeline, venue, imageUrl, startDate, endDate,
+                location, maxCapacity, registrationDeadline, status);
+    }
+
+    public static List<EventModel> toModels(List<EventEntity> entities) {
+        List<EventModel> models = new ArrayList<>(entities.size());
+        for (EventEntity e : entities) {
+            models.add(e.toModel());
+        }
+        // Handed to the UI as is
+        return Collections.unmodifiableList(models);
+    }
+}
@@ -0,0 +1,26 @@
+package com.parapf.eventsync.db;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.PrimaryKey;
+
+/**
+ * Next server page to request for a paged list; null once the last page is cached
+ */
+@Entity(tableName = "event_page_keys")
+public class EventPageKey {
+
+    @PrimaryKey
+    @NonNull public String listType = EventEntity.LIST_PUBLIC;
+    public Integer nextPage;
+
+    public EventPageKey() {
+    }
+
+    @Ignore
+    public EventPageKey(@NonNull String listType, Integer nextPage) {
+        this.listType = listType;
+        this.nextPage = nextPage;
+    }
+}
@@ -0,0 +1,31 @@
+package com.parapf.eventsync.db;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Upsert;
+
+import java.util.List;
+
+@Dao
+public abstract class RegistrationDao {
+
+    @Query("SELECT * FROM registrations ORDER BY position")
+    public abstract LiveData<List<RegistrationEntity>> observe();
+
+    @Upsert
+    protected abstract void upsert(List<RegistrationEntity> registrations);
+
+    @Query("DELETE FROM registrations")
+    public abstract void clear();
+
+    /** Same as {@link EventDao#replaceList}, for the user's registrations */
+    @Transaction
+    public void replaceAll(List<RegistrationEntity> registrations) {
+        clear();
+        if (!registrations.isEmpty()) {
+            upsert(registrations);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.parapf.eventsync.db;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+import com.parapf.eventsync.models.RegistrationModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cached registration of the signed-in user, ordered as the server returned them
+ */
+@Entity(tableName = "registrations")
+public class RegistrationEntity {
+
+    @PrimaryKey
+    @NonNull public String registrationId = "";
+    public int position;
+
+    public String eventId;
+    public String eventTitle;
+    public String eventDescription;
+    public String timeline;
+    public String location;
+    public String imageUrl;
+    public String status;
+    public String teamName;
+    public String teamDescription;
+    public String registeredAt;
+    public String checkedInAt;
+    public boolean checkedIn;
+
+    public static List<RegistrationEntity> fromModels(List<RegistrationModel> models) {
+        List<RegistrationEntity> entities = new ArrayList<>(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            RegistrationModel m = models.get(i);
+            RegistrationEntity e = new RegistrationEntity();
+            e.registrationId = m.getRegistrationId();
+            e.position = i;
+            e.eventId = m.getEventId();
+            e.eventTitle = m.getEventTitle();
+            e.eventDescription = m.getEventDescription();
+            e.timeline = m.getTimeline();
+            e.location = m.getLocation();
+            e.imageUrl = m.getImageUrl();
+            e.status = m.getStatus();
+            e.teamName = m.getTeamName();
+            e.teamDescription = m.getTeamDescription();
+            e.registeredAt = m.getRegisteredAt();
+            e.checkedInAt = m.getCheckedInAt();
+            e.checkedIn = m.isCheckedIn();
+            entities.add(e);
+        }
+        return entities;
+    }
+
+    public static List<RegistrationModel> toModels(List<RegistrationEntity> entities) {
+        List<RegistrationModel> models = new ArrayList<>(entities.size());
+        for (RegistrationEntity e : entities) {
+            models.add(new RegistrationModel(e.registrationId, e.eventId, e.eventTitle, e.eventDescription,
+                    e.timeline, e.location, e.imageUrl, e.status, e.teamName, e.teamDescription,
+                    e.registeredAt, e.checkedInAt, e.checkedIn));
+        }
+        // Handed to the UI as is
+        return Collections.unmodifiableList(models);
+    }
+}
@@ -0,0 +1,41 @@
+package com.parapf.eventsync.ui.RegisteredEvents;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+
+import com.parapf.eventsync.data.OfflineEventRepository;
+import com.parapf.eventsync.data.RefreshState;
+import com.parapf.eventsync.models.RegistrationModel;
+
+import java.util.List;
+
+/**
+ * RegisteredEventsPage's data, kept across rotation. Same freshness rules as MyEventsViewModel.
+ */
+public class RegisteredEventsViewModel extends AndroidViewModel {
+
+    private final OfflineEventRepository repository;
+    private final LiveData<List<RegistrationModel>> registrations;
+
+    public RegisteredEventsViewModel(@NonNull Application application) {
+        super(application);
+        repository = OfflineEventRepository.getInstance(application);
+        registrations = repository.getRegistrations();
+    }
+
+    public LiveData<List<RegistrationModel>> getRegistrations() { return registrations; }
+    public LiveData<RefreshState> getState() { return repository.getRegistrationsState(); }
+
+    /** Screen shown or returned to */
+    public void refreshIfStale() {
+        repository.refreshRegistrationsIfStale(OfflineEventRepository.DEFAULT_TTL_MILLIS);
+    }
+
+    /** Pull-to-refresh */
+    public void refresh() {
+        repository.refreshRegistrations();
+    }
+}
@@ -0,0 +1,42 @@
+package com.parapf.eventsync.ui.events;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+
+import com.parapf.eventsync.data.OfflineEventRepository;
+import com.parapf.eventsync.data.RefreshState;
+import com.parapf.eventsync.models.EventModel;
+
+import java.util.List;
+
+/**
+ * MyEvents' data, kept across rotation. Coming back to the screen only refetches once the
+ * list is older than the TTL; pull-to-refresh always does.
+ */
+public class MyEventsViewModel extends AndroidViewModel {
+
+    private final OfflineEventRepository repository;
+    private final LiveData<List<EventModel>> events;
+
+    public MyEventsViewModel(@NonNull Application application) {
+        super(application);
+        repository = OfflineEventRepository.getInstance(application);
+        events = repository.getMyEvents();
+    }
+
+    public LiveData<List<EventModel>> getEvents() { return events; }
+    public LiveData<RefreshState> getState() { return repository.getMyEventsState(); }
+
+    /** Screen shown or returned to */
+    public void refreshIfStale() {
+        repository.refreshMyEventsIfStale(OfflineEventRepository.DEFAULT_TTL_MILLIS);
+    }
+
+    /** Pull-to-refresh */
+    public void refresh() {
+        repository.refreshMyEvents();
+    }
+}
@@ -0,0 +1,70 @@
+package com.parapf.eventsync.utils;
+
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Time a list screen takes to put one refresh on screen: from the observer getting the list,
+ * through the diff and the commit to the adapter, to the first frame after the rows were laid
+ * out and bound. Logged per screen with a running average (tag "MainThreadCost"). Main thread
+ * only.
+ *
+ * The diff runs in the background, so this is wall time rather than pure main-thread work; a
+ * jump here with the diff unchanged points at inflate/bind.
+ *
+ * Usage:
+ *   long started = MainThreadCost.start();
+ *   adapter.submitList(list, () -> MainThreadCost.endAtNextFrame("MyEvents", recycler, list.size(), started));
+ */
+public final class MainThreadCost {
+
+    private static final String TAG = "MainThreadCost";
+
+    // Screen -> {refreshes, total nanos}
+    private static final Map<String, long[]> totals = new HashMap<>();
+
+    private MainThreadCost() {
+    }
+
+    public static long start() {
+        return SystemClock.elapsedRealtimeNanos();
+    }
+
+    /**
+     * End at the next draw of the view's window, i.e. once the layout pass (inflate, bind)
+     * that follows an adapter commit has run.
+     */
+    public static void endAtNextFrame(String screen, View view, int rows, long startedAt) {
+        view.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                // Asked again: the observer may have been swapped when the view was attached
+                view.getViewTreeObserver().removeOnPreDrawListener(this);
+                end(screen, rows, startedAt);
+                return true;
+            }
+        });
+        // An unchanged list changes no rows and might not schedule a frame by itself
+        view.invalidate();
+    }
+
+    public static void end(String screen, int rows, long startedAt) {
+        long nanos = SystemClock.elapsedRealtimeNanos() - startedAt;
+        long[] total = totals.get(screen);
+        if (total == null) {
+            total = new long[2];
+            totals.put(screen, total);
+        }
+        total[0]++;
+        total[1] += nanos;
+
+        Log.d(TAG, String.format(Locale.US, "%s: %.2fms on main for %d rows (avg %.2fms over %d refreshes)",
+                screen, nanos / 1e6, rows, total[1] / 1e6 / total[0], total[0]));
+    }
+}
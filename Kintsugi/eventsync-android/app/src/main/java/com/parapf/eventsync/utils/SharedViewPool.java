@@ -0,0 +1,203 @@
+package com.parapf.eventsync.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.pm.ActivityInfo;
+import android.content.res.Configuration;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.appcompat.view.ContextThemeWrapper;
+import androidx.asynclayoutinflater.view.AsyncLayoutInflater;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.parapf.eventsync.R;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One RecycledViewPool for the event list screens (Events, MyEvents, RegisteredEventsPage), plus
+ * cards inflated ahead of time on AsyncLayoutInflater's thread, so opening a list doesn't
+ * inflate its first screen of cards on the main thread.
+ *
+ * Cards outlive the screen that used them, so they're inflated against the application context
+ * (with the app theme), never an activity. A closing list hands its cards to the pool
+ * (recycleChildrenOnDetach) and the next list picks them up. Main thread only.
+ *
+ * Idle cards are styled for the configuration they were inflated in, so a change of night
+ * mode, font scale, density or locale throws them away (Application.onConfigurationChanged).
+ *
+ * View types are the card layout ids, one holder class per layout.
+ */
+public final class SharedViewPool {
+
+    private static final String TAG = "SharedViewPool";
+
+    // Until a list has been laid out, assume cards about this tall
+    private static final int ESTIMATED_CARD_DP = 180;
+    // Partially visible cards at both edges
+    private static final int EXTRA_CARDS = 2;
+    // Changes that make an already inflated card look wrong
+    private static final int STYLING_CHANGES = ActivityInfo.CONFIG_UI_MODE | ActivityInfo.CONFIG_FONT_SCALE
+            | ActivityInfo.CONFIG_DENSITY | ActivityInfo.CONFIG_LOCALE;
+
+    private static SharedViewPool INSTANCE;
+
+    private final Context app;
+    private Context themed;
+    private final RecyclerView.RecycledViewPool pool = new RecyclerView.RecycledViewPool();
+    private final Map<Integer, ArrayDeque<View>> preInflated = new HashMap<>();
+    private final Map<Integer, Integer> cardsPerScreen = new HashMap<>();
+    // Requested but not inflated yet, so repeated preInflate calls don't pile up
+    private final Map<Integer, Integer> inFlight = new HashMap<>();
+    private int estimatedCardsPerScreen;
+    private Configuration inflatedFor;
+    // Bumped on every reset, so inflations started before it are dropped
+    private int generation;
+
+    private int preInflatedUsed;
+
+    private SharedViewPool(Context context) {
+        app = context.getApplicationContext();
+        rebuild();
+    }
+
+    public static SharedViewPool get(Context context) {
+        if (INSTANCE == null) {
+            INSTANCE = new SharedViewPool(context);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Start inflating a screen's worth of each card in the background, minus what's already
+     * waiting in the pool
+     */
+    public void preInflate(int... layouts) {
+        AsyncLayoutInflater inflater = new AsyncLayoutInflater(themed);
+        // Only lends its LayoutParams type; RecyclerView converts them when the card is used
+        FrameLayout parent = new FrameLayout(themed);
+
+        for (int layout : layouts) {
+            int wanted = cardsFor(layout);
+            pool.setMaxRecycledViews(layout, wanted);
+            int missing = wanted - waiting(layout).size() - pool.getRecycledViewCount(layout)
+                    - count(inFlight, layout);
+            int startedIn = generation;
+            for (int i = 0; i < missing; i++) {
+                inFlight.put(layout, count(inFlight, layout) + 1);
+                inflater.inflate(layout, parent, (view, resid, p) -> {
+                    if (startedIn != generation) return;
+                    inFlight.put(resid, count(inFlight, resid) - 1);
+                    waiting(resid).add(view);
+                });
+            }
+        }
+    }
+
+    /**
+     * For onCreateViewHolder: a pre-inflated card if one is ready, otherwise inflated now
+     */
+    public View inflate(int layout, ViewGroup parent) {
+        View ready = waiting(layout).poll();
+        if (ready != null) {
+            preInflatedUsed++;
+            return ready;
+        }
+        return LayoutInflater.from(themed).inflate(layout, parent, false);
+    }
+
+    /**
+     * Use the shared pool in this list. Once cards are on screen, the pool is sized to how
+     * many of them fit in the list's viewport.
+     */
+    public void attach(RecyclerView list, LinearLayoutManager layoutManager) {
+        layoutManager.setRecycleChildrenOnDetach(true);
+        list.setRecycledViewPool(pool);
+        list.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                       int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                if (list.getChildCount() == 0) return;
+                View card = list.getChildAt(0);
+                if (card.getHeight() <= 0) return;
+                list.removeOnLayoutChangeListener(this);
+
+                int layout = list.getChildViewHolder(card).getItemViewType();
+                int fits = list.getHeight() / card.getHeight() + EXTRA_CARDS;
+                cardsPerScreen.put(layout, fits);
+                pool.setMaxRecycledViews(layout, fits);
+                Log.d(TAG, fits + " cards per screen for layout " + layout
+                        + ", " + preInflatedUsed + " pre-inflated cards used so far");
+            }
+        });
+    }
+
+    /**
+     * From Application.onTrimMemory: idle cards are cheap to inflate again, so they go first.
+     * Kept while the app is merely in the background with memory to spare.
+     */
+    public static void trim(int level) {
+        if (INSTANCE == null || level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN
+                || level < ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            return;
+        }
+        INSTANCE.pool.clear();
+        INSTANCE.preInflated.clear();
+        // Cards still being inflated would land in the queue we just emptied
+        INSTANCE.inFlight.clear();
+        INSTANCE.generation++;
+        Log.d(TAG, "Dropped idle cards (trim level " + level + ")");
+    }
+
+    /**
+     * From Application.onConfigurationChanged: drop every idle card and re-theme if anything
+     * a card's look depends on changed
+     */
+    public static void onConfigurationChanged(Configuration newConfig) {
+        if (INSTANCE == null) return;
+        if ((INSTANCE.inflatedFor.diff(newConfig) & STYLING_CHANGES) == 0) return;
+
+        INSTANCE.pool.clear();
+        INSTANCE.preInflated.clear();
+        INSTANCE.inFlight.clear();
+        INSTANCE.cardsPerScreen.clear();
+        INSTANCE.generation++;
+        INSTANCE.rebuild();
+        Log.d(TAG, "Configuration changed, dropped idle cards");
+    }
+
+    private void rebuild() {
+        themed = new ContextThemeWrapper(app, R.style.Theme_EventSync);
+        inflatedFor = new Configuration(app.getResources().getConfiguration());
+
+        float density = app.getResources().getDisplayMetrics().density;
+        int screenHeight = app.getResources().getDisplayMetrics().heightPixels;
+        estimatedCardsPerScreen = screenHeight / (int) (ESTIMATED_CARD_DP * density) + EXTRA_CARDS;
+    }
+
+    private static int count(Map<Integer, Integer> counts, int layout) {
+        Integer n = counts.get(layout);
+        return n != null ? n : 0;
+    }
+
+    private int cardsFor(int layout) {
+        Integer measured = cardsPerScreen.get(layout);
+        return measured != null ? measured : estimatedCardsPerScreen;
+    }
+
+    private ArrayDeque<View> waiting(int layout) {
+        ArrayDeque<View> views = preInflated.get(layout);
+        if (views == null) {
+            views = new ArrayDeque<>();
+            preInflated.put(layout, views);
+        }
+        return views;
+    }
+}
@@ -0,0 +1,25 @@
+package com.parapf.eventsync.utils;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server ids are strings, RecyclerView wants longs: hands out one long per key and keeps it
+ * for the adapter's lifetime, so a row keeps its id across refreshes. Main thread only.
+ */
+public final class StableIds {
+
+    private final Map<String, Long> ids = new HashMap<>();
+
+    public long of(String key) {
+        if (key == null) return RecyclerView.NO_ID;
+        Long id = ids.get(key);
+        if (id == null) {
+            id = (long) ids.size();
+            ids.put(key, id);
+        }
+        return id;
+    }
+}
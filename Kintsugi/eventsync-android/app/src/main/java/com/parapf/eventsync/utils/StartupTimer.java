@@ -0,0 +1,143 @@
+package com.parapf.eventsync.utils;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Logs time-to-first-screen: process start until the first real screen (Main or Login)
+ * draws its first frame. The path tells how we got there, so the snapshot start and the
+ * old wait-for-network start can be compared in logcat (tag "Startup").
+ *
+ * Phases in between are marked as they happen and each cold start is kept in a small
+ * persisted ring buffer (getHistory), so a regression shows up against earlier runs.
+ */
+public final class StartupTimer {
+
+    public static final String EXTRA_PATH = "startup_path";
+
+    public static final String PATH_SNAPSHOT = "snapshot";
+    public static final String PATH_NETWORK = "network";
+    public static final String PATH_SIGNED_OUT = "signed_out";
+
+    /** Startup milestones, in the order they normally happen */
+    public enum Phase {
+        APPLICATION,
+        LAUNCHER,
+        CLIENT_READY,
+        CONNECTION_WARM,
+        FIRST_REQUEST,
+        FIRST_FRAME
+    }
+
+    private static final String TAG = "Startup";
+
+    private static final String PREFS_NAME = "startup_trace";
+    private static final String KEY_RUNS = "runs";
+    private static final int MAX_RUNS = 20;
+
+    // Millis since process start per phase, -1 until marked
+    private static final long[] marks = new long[Phase.values().length];
+
+    static {
+        Arrays.fill(marks, -1);
+    }
+
+    // Connection setup the first request skipped thanks to the warm-up, -1 until known
+    private static volatile long connectSavedMillis = -1;
+
+    private static boolean reported;
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Record a phase; only the first mark per process counts. Any thread.
+     */
+    public static void mark(Phase phase) {
+        long millis = SystemClock.uptimeMillis() - Process.getStartUptimeMillis();
+        synchronized (marks) {
+            if (marks[phase.ordinal()] < 0) {
+                marks[phase.ordinal()] = millis;
+            }
+        }
+    }
+
+    /**
+     * Record how much connection setup the first request was spared. Any thread.
+     */
+    public static void recordConnectSaved(long millis) {
+        connectSavedMillis = millis;
+    }
+
+    /**
+     * Call from onCreate of a first screen; only the first call per process is logged
+     */
+    public static void reportFirstScreen(Activity activity) {
+        if (reported) return;
+        reported = true;
+
+        String path = activity.getIntent().getStringExtra(EXTRA_PATH);
+        Context app = activity.getApplicationContext();
+        View content = activity.findViewById(android.R.id.content);
+        content.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                content.getViewTreeObserver().removeOnPreDrawListener(this);
+                mark(Phase.FIRST_FRAME);
+                String run = describe(activity.getClass().getSimpleName(), path != null ? path : "direct");
+                Log.i(TAG, "Time to first screen: " + run);
+                record(app, run);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Previous cold starts, oldest first, one line each
+     */
+    public static List<String> getHistory(Context context) {
+        String runs = prefs(context).getString(KEY_RUNS, "");
+        if (runs.isEmpty()) return Collections.emptyList();
+        return Arrays.asList(runs.split("\n"));
+    }
+
+    private static String describe(String screen, String path) {
+        StringBuilder line = new StringBuilder();
+        synchronized (marks) {
+            line.append(marks[Phase.FIRST_FRAME.ordinal()]).append("ms (").append(screen)
+                    .append(", ").append(path).append(")");
+            for (Phase phase : Phase.values()) {
+                line.append(' ').append(phase.name().toLowerCase()).append('=').append(marks[phase.ordinal()]);
+            }
+            line.append(" connect_saved=").append(connectSavedMillis);
+        }
+        return line.toString();
+    }
+
+    private static void record(Context context, String run) {
+        // Off the main thread: loading the prefs file is disk I/O we don't want in the first frame
+        new Thread(() -> {
+            List<String> runs = new ArrayList<>(getHistory(context));
+            runs.add(run);
+            if (runs.size() > MAX_RUNS) {
+                runs = runs.subList(runs.size() - MAX_RUNS, runs.size());
+            }
+            prefs(context).edit().putString(KEY_RUNS, String.join("\n", runs)).apply();
+        }, "startup-trace").start();
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,31 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+// JVM-only JMH benchmarks for :core. Run with: ./gradlew :benchmark:jmh
+// Pick benchmarks with -PjmhIncludes=<regex>, e.g. -PjmhIncludes=PageDesign
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    jmhImplementation(project(":core"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeUnit.set("us")
+    benchmarkMode.set(listOf("avgt"))
+
+    // Allocation rate next to time, saved as JSON so runs can be diffed between versions
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
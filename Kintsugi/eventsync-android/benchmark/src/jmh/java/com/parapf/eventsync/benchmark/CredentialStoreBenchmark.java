@@ -0,0 +1,92 @@
+package com.parapf.eventsync.benchmark;
+
+import com.parapf.eventsync.APIs.AuthInterceptor;
+import com.parapf.eventsync.APIs.CredentialStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import okhttp3.Request;
+
+/**
+ * Credential reads on the request path: the in-memory CredentialStore vs the old
+ * per-request SharedPreferences lookup (modelled as a lock around a HashMap, which is
+ * what SharedPreferencesImpl.getString does once loaded).
+ */
+@State(Scope.Benchmark)
+public class CredentialStoreBenchmark {
+
+    private static final String TOKEN = "tok_2f9c1d7e8a4b4c0f9e1d";
+
+    private CredentialStore store;
+    private AuthInterceptor interceptor;
+    private Request request;
+
+    private final Map<String, String> prefs = new HashMap<>();
+    private final Object prefsLock = new Object();
+
+    private int writes;
+
+    @Setup
+    public void setUp() {
+        // No-op persister: we measure the request path, not disk
+        store = new CredentialStore(new CredentialStore.Credentials(TOKEN), c -> { });
+        interceptor = new AuthInterceptor(store);
+        request = new Request.Builder()
+                .url("https://eventsync-1998.vercel.app/api/user/registrations")
+                .build();
+        prefs.put("auth_token", TOKEN);
+    }
+
+    // === CONTENDED READS ===
+
+    @Benchmark
+    @Threads(8)
+    public CredentialStore.Credentials read_store() {
+        return store.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String read_lockedPrefs() {
+        synchronized (prefsLock) {
+            return prefs.get("auth_token");
+        }
+    }
+
+    // === READS WHILE SIGN-IN / REFRESH WRITES ===
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(7)
+    public CredentialStore.Credentials mixed_read() {
+        return store.get();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixed_write() {
+        store.setToken((writes++ & 1) == 0 ? TOKEN : TOKEN + "x");
+    }
+
+    // === PER-REQUEST OVERHEAD ===
+
+    @Benchmark
+    public Request authorize() {
+        return interceptor.authorize(request);
+    }
+
+    @Benchmark
+    public Request baseline_newBuilder() {
+        return request.newBuilder().build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.parapf.eventsync.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.parapf.eventsync.APIs.Adapters.ModelTypeAdapterFactory;
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.models.PageDesign;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Event page decoding. "tree" is the old path (page kept as a JsonObject, converted to
+ * PageDesign again in the details sheet); "streaming" is the current single pass.
+ */
+@State(Scope.Benchmark)
+public class PageDesignBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    public int blocks;
+
+    private String eventJson;
+
+    private final Gson streaming = new GsonBuilder()
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .serializeNulls()
+            .setLenient()
+            .create();
+
+    private final Gson reflective = new Gson();
+
+    @Setup
+    public void setUp() {
+        eventJson = Payloads.eventWithPage(blocks);
+    }
+
+    @Benchmark
+    public PageDesign streaming() {
+        return streaming.fromJson(eventJson, EventResponse.class).getData().getPage();
+    }
+
+    @Benchmark
+    public PageDesign tree() {
+        JsonObject root = JsonParser.parseString(eventJson).getAsJsonObject();
+        JsonObject page = root.getAsJsonObject("data").getAsJsonObject("page");
+        return reflective.fromJson(page, PageDesign.class);
+    }
+}
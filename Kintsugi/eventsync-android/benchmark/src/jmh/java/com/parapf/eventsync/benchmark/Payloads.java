@@ -0,0 +1,130 @@
+package com.parapf.eventsync.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Synthetic but realistically shaped API bodies (field names, nesting, string lengths)
+ * matching what the backend returns. Seeded, so every run benchmarks the same bytes.
+ */
+final class Payloads {
+
+    private static final String LOREM = "Join us for a full day of talks, workshops and networking with "
+            + "people building things on campus. Bring a laptop, bring friends, bring questions.";
+
+    private static final String[] BLOCK_TYPES = {
+            "heading", "paragraph", "image", "link", "button", "spacer", "divider", "video", "quote", "list"
+    };
+
+    private Payloads() {
+    }
+
+    /** GET /api/events/list with {@code count} events */
+    static String eventsList(int count) {
+        Random random = new Random(count);
+        StringBuilder sb = new StringBuilder(count * 700);
+        sb.append("{\"success\":true,\"data\":{\"events\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            appendEvent(sb, i, random);
+        }
+        sb.append("],\"pagination\":{\"page\":1,\"limit\":").append(count)
+                .append(",\"total\":").append(count)
+                .append(",\"totalPages\":1,\"hasMore\":false}}}");
+        return sb.toString();
+    }
+
+    /** GET /api/user/registrations with {@code count} registrations */
+    static String userRegistrations(int count) {
+        Random random = new Random(count);
+        StringBuilder sb = new StringBuilder(count * 900);
+        sb.append("{\"success\":true,\"data\":{\"registrations\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"id\":\"reg_").append(i).append('"')
+                    .append(",\"status\":\"").append(random.nextBoolean() ? "confirmed" : "pending").append('"')
+                    .append(",\"registeredAt\":\"").append(iso(random)).append('"')
+                    .append(",\"checkedInAt\":").append(random.nextInt(4) == 0 ? '"' + iso(random) + '"' : "null")
+                    .append(",\"event\":");
+            appendEvent(sb, i, random);
+            sb.append(",\"team\":{\"id\":\"team_").append(i).append("\",\"name\":\"Team ").append(i)
+                    .append("\",\"description\":\"").append(LOREM, 0, 40 + random.nextInt(60)).append("\"}}");
+        }
+        sb.append("],\"total\":").append(count).append("}}");
+        return sb.toString();
+    }
+
+    /** GET /api/events/{id} whose page holds {@code blocks} page-builder blocks */
+    static String eventWithPage(int blocks) {
+        Random random = new Random(blocks);
+        StringBuilder sb = new StringBuilder(blocks * 250 + 1024);
+        sb.append("{\"success\":true,\"data\":{\"id\":\"evt_1\",\"title\":\"Campus Hack Day\"")
+                .append(",\"description\":\"").append(LOREM).append('"')
+                .append(",\"startDate\":\"2025-11-22T09:00:00.000Z\",\"endDate\":\"2025-11-22T17:00:00.000Z\"")
+                .append(",\"location\":\"Main Auditorium\",\"maxCapacity\":300,\"status\":\"published\"")
+                .append(",\"page\":{\"version\":\"1.0\",\"blocks\":[");
+        for (int i = 0; i < blocks; i++) {
+            if (i > 0) sb.append(',');
+            appendBlock(sb, i, BLOCK_TYPES[random.nextInt(BLOCK_TYPES.length)], random);
+        }
+        sb.append("],\"createdAt\":\"2025-10-01T10:00:00.000Z\",\"updatedAt\":\"2025-10-02T10:00:00.000Z\"}}}");
+        return sb.toString();
+    }
+
+    private static void appendEvent(StringBuilder sb, int i, Random random) {
+        sb.append("{\"id\":\"evt_").append(i).append('"')
+                .append(",\"title\":\"Event number ").append(i).append('"')
+                .append(",\"description\":\"").append(LOREM, 0, 60 + random.nextInt(LOREM.length() - 60)).append('"')
+                .append(",\"imageUrl\":\"https://images.example.com/events/").append(i).append(".jpg\"")
+                .append(",\"startDate\":\"").append(iso(random)).append('"')
+                .append(",\"endDate\":\"").append(iso(random)).append('"')
+                .append(",\"location\":\"Hall ").append(random.nextInt(12)).append('"')
+                .append(",\"maxCapacity\":").append(50 + random.nextInt(500))
+                .append(",\"registrationDeadline\":\"").append(iso(random)).append('"')
+                .append(",\"status\":\"published\"")
+                .append(",\"managerId\":\"usr_").append(random.nextInt(40)).append('"')
+                .append(",\"teamId\":null")
+                .append(",\"createdAt\":\"").append(iso(random)).append('"')
+                .append(",\"updatedAt\":\"").append(iso(random)).append("\"}");
+    }
+
+    private static void appendBlock(StringBuilder sb, int i, String type, Random random) {
+        sb.append("{\"id\":\"blk_").append(i).append("\",\"type\":\"").append(type)
+                .append("\",\"order\":").append(i);
+        switch (type) {
+            case "heading":
+                sb.append(",\"content\":\"Section ").append(i).append("\",\"level\":").append(1 + random.nextInt(3))
+                        .append(",\"style\":{\"textAlign\":\"left\",\"fontWeight\":\"bold\"}");
+                break;
+            case "image":
+                sb.append(",\"url\":\"https://images.example.com/p/").append(i).append(".png\"")
+                        .append(",\"alt\":\"Image ").append(i).append("\",\"caption\":\"Caption\"")
+                        .append(",\"width\":\"100%\",\"alignment\":\"center\",\"rounded\":true,\"border\":false");
+                break;
+            case "link":
+            case "button":
+                sb.append(",\"text\":\"Register now\",\"url\":\"https://eventsync.example.com/r/").append(i)
+                        .append("\",\"variant\":\"primary\",\"size\":\"md\"");
+                break;
+            case "spacer":
+                sb.append(",\"spacerHeight\":\"").append(8 * (1 + random.nextInt(6))).append("px\"");
+                break;
+            case "divider":
+                sb.append(",\"dividerStyle\":\"solid\",\"dividerColor\":\"#e5e7eb\"");
+                break;
+            case "video":
+                sb.append(",\"videoUrl\":\"https://www.youtube.com/watch?v=").append(i)
+                        .append("\",\"provider\":\"youtube\",\"thumbnail\":null");
+                break;
+            default:
+                sb.append(",\"content\":\"").append(LOREM).append('"')
+                        .append(",\"style\":{\"fontSize\":\"16px\",\"color\":\"#111827\"}");
+        }
+        sb.append('}');
+    }
+
+    private static String iso(Random random) {
+        return String.format(Locale.US, "2025-%02d-%02dT%02d:%02d:00.000Z",
+                1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24), random.nextInt(4) * 15);
+    }
+}
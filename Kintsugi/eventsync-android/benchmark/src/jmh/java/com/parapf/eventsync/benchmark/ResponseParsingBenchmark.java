@@ -0,0 +1,64 @@
+package com.parapf.eventsync.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.parapf.eventsync.APIs.Adapters.ModelTypeAdapterFactory;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.APIs.Responses.UserRegistrationsResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * List endpoints through the app's Gson (streaming adapters) vs plain reflective Gson
+ */
+@State(Scope.Benchmark)
+public class ResponseParsingBenchmark {
+
+    @Param({"20", "100", "1000", "10000"})
+    public int items;
+
+    private String eventsJson;
+    private String registrationsJson;
+
+    // Same config as ApiClient
+    private final Gson streaming = new GsonBuilder()
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .serializeNulls()
+            .setLenient()
+            .create();
+
+    private final Gson reflective = new GsonBuilder()
+            .serializeNulls()
+            .setLenient()
+            .create();
+
+    @Setup
+    public void setUp() {
+        eventsJson = Payloads.eventsList(items);
+        registrationsJson = Payloads.userRegistrations(items);
+    }
+
+    @Benchmark
+    public EventsListResponse eventsList_streaming() {
+        return streaming.fromJson(eventsJson, EventsListResponse.class);
+    }
+
+    @Benchmark
+    public EventsListResponse eventsList_reflective() {
+        return reflective.fromJson(eventsJson, EventsListResponse.class);
+    }
+
+    @Benchmark
+    public UserRegistrationsResponse registrations_streaming() {
+        return streaming.fromJson(registrationsJson, UserRegistrationsResponse.class);
+    }
+
+    @Benchmark
+    public UserRegistrationsResponse registrations_reflective() {
+        return reflective.fromJson(registrationsJson, UserRegistrationsResponse.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.parapf.eventsync.benchmark;
+
+import com.parapf.eventsync.utils.TimelineFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * Card timelines and details-sheet dates, formerly MyEvents.formatDateRange /
+ * EventDetailsBottomSheet.formatDate
+ *
+ * The fixed inputs measure a row rebind (memo hit); formatRange_cacheMiss cycles through more
+ * distinct events than the memo holds, i.e. the parse + format cost of a first bind.
+ * Compare gc.alloc.rate.norm against the SimpleDateFormat version for the allocation drop.
+ */
+@State(Scope.Benchmark)
+public class TimelineFormatterBenchmark {
+
+    private static final int DISTINCT_EVENTS = 4096;
+
+    public String start = "2025-11-22T09:00:00.000Z";
+    public String sameDayEnd = "2025-11-22T17:00:00.000Z";
+    public String nextDayEnd = "2025-11-23T17:00:00.000Z";
+    public String sqlDate = "2025-11-22 09:00:00";
+    public String garbage = "TBA";
+    public String sqlEnd = "2025-11-23 17:00:00";
+
+    private final ZoneId zone = ZoneId.of("UTC");
+    private String[] starts;
+    private String[] ends;
+    private int next;
+
+    @Setup
+    public void distinctEvents() {
+        starts = new String[DISTINCT_EVENTS];
+        ends = new String[DISTINCT_EVENTS];
+        for (int i = 0; i < DISTINCT_EVENTS; i++) {
+            int minute = i % 60;
+            int hour = (i / 60) % 24;
+            String time = String.format(Locale.US, "%02d:%02d:00.000Z", hour, minute);
+            starts[i] = "2025-11-" + (10 + i % 18) + "T" + time;
+            ends[i] = "2025-12-" + (10 + i % 18) + "T" + time;
+        }
+    }
+
+    @Benchmark
+    public String formatRange_sameDay() {
+        return TimelineFormatter.formatRange(start, sameDayEnd);
+    }
+
+    @Benchmark
+    public String formatRange_multiDay() {
+        return TimelineFormatter.formatRange(start, nextDayEnd);
+    }
+
+    @Benchmark
+    public String formatRange_sqlForm() {
+        return TimelineFormatter.formatRange(sqlDate, sqlEnd);
+    }
+
+    @Benchmark
+    public String formatRange_cacheMiss() {
+        int i = next++ & (DISTINCT_EVENTS - 1);
+        return TimelineFormatter.formatRange(starts[i], ends[i], Locale.US, zone);
+    }
+
+    @Benchmark
+    public String formatRange_unparseable() {
+        return TimelineFormatter.formatRange(garbage, garbage);
+    }
+
+    @Benchmark
+    public String formatDate_iso() {
+        return TimelineFormatter.formatDate(start);
+    }
+
+    @Benchmark
+    public String formatDate_sqlFallback() {
+        return TimelineFormatter.formatDate(sqlDate);
+    }
+}
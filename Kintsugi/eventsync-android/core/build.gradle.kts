@@ -0,0 +1,20 @@
+plugins {
+    `java-library`
+}
+
+// Android-free code shared by the app, JVM tests and benchmarks:
+// API models + adapters, ApiService, mapping/formatting and the repository layer.
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    api(libs.retrofit)
+    api(libs.retrofit.converter.gson)
+    api(libs.okhttp)
+    api(libs.annotation)
+
+    testImplementation(libs.junit)
+    testImplementation(libs.okhttp.mockwebserver)
+}
@@ -0,0 +1,49 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.ApiError;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link ApiError} error bodies.
+ */
+final class ApiErrorAdapter extends TypeAdapter<ApiError> {
+
+    static final TypeAdapter<ApiError> INSTANCE = new ApiErrorAdapter();
+
+    @Override
+    public ApiError read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        ApiError result = new ApiError();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    result.setCode(JsonFields.readString(in));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, ApiError value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("code").value(value.getCode());
+        out.name("message").value(value.getMessage());
+        out.endObject();
+    }
+}
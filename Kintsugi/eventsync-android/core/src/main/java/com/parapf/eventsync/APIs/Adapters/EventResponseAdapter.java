@@ -0,0 +1,150 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link EventResponse} (GET api/events/{id}).
+ */
+final class EventResponseAdapter extends TypeAdapter<EventResponse> {
+
+    static final TypeAdapter<EventResponse> INSTANCE = new EventResponseAdapter();
+
+    static final TypeAdapter<EventResponse.EventData> EVENT_DATA = new EventDataAdapter();
+
+    @Override
+    public EventResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        EventResponse result = new EventResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    result.setSuccess(JsonFields.readBoolean(in, false));
+                    break;
+                case "data":
+                    result.setData(EVENT_DATA.read(in));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                case "error":
+                    result.setError(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, EventResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("success").value(value.isSuccess());
+        out.name("data");
+        EVENT_DATA.write(out, value.getData());
+        out.name("message").value(value.getMessage());
+        out.name("error").value(value.getError());
+        out.endObject();
+    }
+
+    private static final class EventDataAdapter extends TypeAdapter<EventResponse.EventData> {
+
+        @Override
+        public EventResponse.EventData read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            EventResponse.EventData result = new EventResponse.EventData();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "title":
+                        result.setTitle(JsonFields.readString(in));
+                        break;
+                    case "description":
+                        result.setDescription(JsonFields.readString(in));
+                        break;
+                    case "imageUrl":
+                        result.setImageUrl(JsonFields.readString(in));
+                        break;
+                    case "startDate":
+                        result.setStartDate(JsonFields.readString(in));
+                        break;
+                    case "endDate":
+                        result.setEndDate(JsonFields.readString(in));
+                        break;
+                    case "location":
+                        result.setLocation(JsonFields.readString(in));
+                        break;
+                    case "maxCapacity":
+                        result.setMaxCapacity(JsonFields.readInteger(in));
+                        break;
+                    case "registrationDeadline":
+                        result.setRegistrationDeadline(JsonFields.readString(in));
+                        break;
+                    case "status":
+                        result.setStatus(JsonFields.readString(in));
+                        break;
+                    case "managerId":
+                        result.setManagerId(JsonFields.readString(in));
+                        break;
+                    case "teamId":
+                        result.setTeamId(JsonFields.readString(in));
+                        break;
+                    case "createdAt":
+                        result.setCreatedAt(JsonFields.readString(in));
+                        break;
+                    case "updatedAt":
+                        result.setUpdatedAt(JsonFields.readString(in));
+                        break;
+                    case "page":
+                        // Blocks go straight into PageDesign/PageBlock, no JsonObject tree in between
+                        result.setPage(JsonFields.readObjectOrSkip(in, PageDesignAdapter.INSTANCE));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, EventResponse.EventData value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("title").value(value.getTitle());
+            out.name("description").value(value.getDescription());
+            out.name("imageUrl").value(value.getImageUrl());
+            out.name("startDate").value(value.getStartDate());
+            out.name("endDate").value(value.getEndDate());
+            out.name("location").value(value.getLocation());
+            out.name("maxCapacity").value(value.getMaxCapacity());
+            out.name("registrationDeadline").value(value.getRegistrationDeadline());
+            out.name("status").value(value.getStatus());
+            out.name("managerId").value(value.getManagerId());
+            out.name("teamId").value(value.getTeamId());
+            out.name("createdAt").value(value.getCreatedAt());
+            out.name("updatedAt").value(value.getUpdatedAt());
+            out.name("page");
+            PageDesignAdapter.INSTANCE.write(out, value.getPage());
+            out.endObject();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link EventsListResponse} (GET api/events/list).
+ */
+final class EventsListResponseAdapter extends TypeAdapter<EventsListResponse> {
+
+    static final TypeAdapter<EventsListResponse> INSTANCE = new EventsListResponseAdapter();
+
+    static final TypeAdapter<EventsListResponse.Data> DATA = new DataAdapter();
+    static final TypeAdapter<EventsListResponse.Event> EVENT = new EventAdapter();
+    static final TypeAdapter<EventsListResponse.Pagination> PAGINATION = new PaginationAdapter();
+
+    @Override
+    public EventsListResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        EventsListResponse result = new EventsListResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    result.setSuccess(JsonFields.readBoolean(in, false));
+                    break;
+                case "data":
+                    result.setData(DATA.read(in));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, EventsListResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("success").value(value.isSuccess());
+        out.name("data");
+        DATA.write(out, value.getData());
+        out.name("message").value(value.getMessage());
+        out.endObject();
+    }
+
+    private static final class DataAdapter extends TypeAdapter<EventsListResponse.Data> {
+
+        @Override
+        public EventsListResponse.Data read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            EventsListResponse.Data result = new EventsListResponse.Data();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "events":
+                        result.setEvents(JsonFields.readList(in, EVENT));
+                        break;
+                    case "pagination":
+                        result.setPagination(PAGINATION.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, EventsListResponse.Data value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("events");
+            JsonFields.writeList(out, value.getEvents(), EVENT);
+            out.name("pagination");
+            PAGINATION.write(out, value.getPagination());
+            out.endObject();
+        }
+    }
+
+    private static final class EventAdapter extends TypeAdapter<EventsListResponse.Event> {
+
+        @Override
+        public EventsListResponse.Event read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            EventsListResponse.Event result = new EventsListResponse.Event();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "title":
+                        result.setTitle(JsonFields.readString(in));
+                        break;
+                    case "description":
+                        result.setDescription(JsonFields.readString(in));
+                        break;
+                    case "imageUrl":
+                        result.setImageUrl(JsonFields.readString(in));
+                        break;
+                    case "startDate":
+                        result.setStartDate(JsonFields.readString(in));
+                        break;
+                    case "endDate":
+                        result.setEndDate(JsonFields.readString(in));
+                        break;
+                    case "location":
+                        result.setLocation(JsonFields.readString(in));
+                        break;
+                    case "maxCapacity":
+                        result.setMaxCapacity(JsonFields.readInt(in, 0));
+                        break;
+                    case "registrationDeadline":
+                        result.setRegistrationDeadline(JsonFields.readString(in));
+                        break;
+                    case "status":
+                        result.setStatus(JsonFields.readString(in));
+                        break;
+                    case "managerId":
+                        result.setManagerId(JsonFields.readString(in));
+                        break;
+                    case "teamId":
+                        result.setTeamId(JsonFields.readString(in));
+                        break;
+                    case "createdAt":
+                        result.setCreatedAt(JsonFields.readString(in));
+                        break;
+                    case "updatedAt":
+                        result.setUpdatedAt(JsonFields.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, EventsListResponse.Event value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("title").value(value.getTitle());
+            out.name("description").value(value.getDescription());
+            out.name("imageUrl").value(value.getImageUrl());
+            out.name("startDate").value(value.getStartDate());
+            out.name("endDate").value(value.getEndDate());
+            out.name("location").value(value.getLocation());
+            out.name("maxCapacity").value(value.getMaxCapacity());
+            out.name("registrationDeadline").value(value.getRegistrationDeadline());
+            out.name("status").value(value.getStatus());
+            out.name("managerId").value(value.getManagerId());
+            out.name("teamId").value(value.getTeamId());
+            out.name("createdAt").value(value.getCreatedAt());
+            out.name("updatedAt").value(value.getUpdatedAt());
+            out.endObject();
+        }
+    }
+
+    private static final class PaginationAdapter extends TypeAdapter<EventsListResponse.Pagination> {
+
+        @Override
+        public EventsListResponse.Pagination read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            EventsListResponse.Pagination result = new EventsListResponse.Pagination();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "page":
+                        result.setPage(JsonFields.readInt(in, 0));
+                        break;
+                    case "limit":
+                        result.setLimit(JsonFields.readInt(in, 0));
+                        break;
+                    case "total":
+                        result.setTotal(JsonFields.readInt(in, 0));
+                        break;
+                    case "totalPages":
+                        result.setTotalPages(JsonFields.readInt(in, 0));
+                        break;
+                    case "hasMore":
+                        result.setHasMore(JsonFields.readBoolean(in, false));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, EventsListResponse.Pagination value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("page").value(value.getPage());
+            out.name("limit").value(value.getLimit());
+            out.name("total").value(value.getTotal());
+            out.name("totalPages").value(value.getTotalPages());
+            out.name("hasMore").value(value.isHasMore());
+            out.endObject();
+        }
+    }
+}
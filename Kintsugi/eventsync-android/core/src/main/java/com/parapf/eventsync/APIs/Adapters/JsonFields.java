@@ -0,0 +1,123 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Small read/write helpers shared by the streaming adapters.
+ * They follow what reflective Gson did for the same field types, so switching over
+ * doesn't change what ends up in the models (a JSON null leaves primitives at their default).
+ */
+final class JsonFields {
+
+    private JsonFields() {
+    }
+
+    static boolean isNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    static int readInt(JsonReader in, int fallback) throws IOException {
+        if (isNull(in)) return fallback;
+        return in.nextInt();
+    }
+
+    static Integer readInteger(JsonReader in) throws IOException {
+        if (isNull(in)) return null;
+        return in.nextInt();
+    }
+
+    static boolean readBoolean(JsonReader in, boolean fallback) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return fallback;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    static Boolean readBooleanObject(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return readBoolean(in, false);
+    }
+
+    /** Builds a tree only for fields that really are free-form JSON objects, skips anything else */
+    static JsonObject readJsonObjectOrSkip(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return null;
+        }
+        return JsonParser.parseReader(in).getAsJsonObject();
+    }
+
+    /** Reads an object with the adapter, anything else (null, string, array) is skipped as null */
+    static <T> T readObjectOrSkip(JsonReader in, TypeAdapter<T> adapter) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return null;
+        }
+        return adapter.read(in);
+    }
+
+    static <T> List<T> readList(JsonReader in, TypeAdapter<T> adapter) throws IOException {
+        if (isNull(in)) return null;
+        List<T> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            list.add(adapter.read(in));
+        }
+        in.endArray();
+        return list;
+    }
+
+    static <T> void writeList(JsonWriter out, List<T> list, TypeAdapter<T> adapter) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T item : list) {
+            adapter.write(out, item);
+        }
+        out.endArray();
+    }
+
+    static void writeElement(JsonWriter out, JsonElement element) throws IOException {
+        if (element == null || element.isJsonNull()) {
+            out.nullValue();
+            return;
+        }
+        out.jsonValue(element.toString());
+    }
+}
@@ -0,0 +1,75 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.parapf.eventsync.APIs.Requests.SignInRequest;
+import com.parapf.eventsync.APIs.Requests.SignUpRequest;
+import com.parapf.eventsync.APIs.Responses.ApiError;
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.APIs.Responses.MyEventsResponse;
+import com.parapf.eventsync.APIs.Responses.SessionResponse;
+import com.parapf.eventsync.APIs.Responses.SignInResponse;
+import com.parapf.eventsync.APIs.Responses.SignUpResponse;
+import com.parapf.eventsync.APIs.Responses.UserRegistrationsResponse;
+import com.parapf.eventsync.APIs.Responses.UserResponse;
+import com.parapf.eventsync.APIs.UserData;
+import com.parapf.eventsync.models.PageBlock;
+import com.parapf.eventsync.models.PageDesign;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands Gson our streaming adapters for every request/response model, so parsing never
+ * falls back to the reflective adapter (no field lookups, nothing for R8 to keep).
+ *
+ * Register on the GsonBuilder:
+ *   new GsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+ */
+public final class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final Map<Class<?>, TypeAdapter<?>> ADAPTERS = new HashMap<>();
+
+    static {
+        // Requests
+        ADAPTERS.put(SignInRequest.class, SignInRequestAdapter.INSTANCE);
+        ADAPTERS.put(SignUpRequest.class, SignUpRequestAdapter.INSTANCE);
+
+        // Responses
+        ADAPTERS.put(ApiError.class, ApiErrorAdapter.INSTANCE);
+        ADAPTERS.put(SignInResponse.class, SignInResponseAdapter.INSTANCE);
+        ADAPTERS.put(SignUpResponse.class, SignUpResponseAdapter.INSTANCE);
+        ADAPTERS.put(SessionResponse.class, SessionResponseAdapter.INSTANCE);
+        ADAPTERS.put(SessionResponse.Session.class, SessionResponseAdapter.SESSION);
+        ADAPTERS.put(SessionResponse.User.class, SessionResponseAdapter.USER);
+        ADAPTERS.put(UserResponse.class, UserResponseAdapter.INSTANCE);
+        ADAPTERS.put(UserData.class, UserDataAdapter.INSTANCE);
+        ADAPTERS.put(EventsListResponse.class, EventsListResponseAdapter.INSTANCE);
+        ADAPTERS.put(EventsListResponse.Data.class, EventsListResponseAdapter.DATA);
+        ADAPTERS.put(EventsListResponse.Event.class, EventsListResponseAdapter.EVENT);
+        ADAPTERS.put(EventsListResponse.Pagination.class, EventsListResponseAdapter.PAGINATION);
+        ADAPTERS.put(EventResponse.class, EventResponseAdapter.INSTANCE);
+        ADAPTERS.put(EventResponse.EventData.class, EventResponseAdapter.EVENT_DATA);
+        ADAPTERS.put(MyEventsResponse.class, MyEventsResponseAdapter.INSTANCE);
+        ADAPTERS.put(MyEventsResponse.Event.class, MyEventsResponseAdapter.EVENT);
+        ADAPTERS.put(UserRegistrationsResponse.class, UserRegistrationsResponseAdapter.INSTANCE);
+        ADAPTERS.put(UserRegistrationsResponse.Data.class, UserRegistrationsResponseAdapter.DATA);
+        ADAPTERS.put(UserRegistrationsResponse.Registration.class, UserRegistrationsResponseAdapter.REGISTRATION);
+        ADAPTERS.put(UserRegistrationsResponse.Event.class, UserRegistrationsResponseAdapter.EVENT);
+        ADAPTERS.put(UserRegistrationsResponse.Team.class, UserRegistrationsResponseAdapter.TEAM);
+
+        // Page designer models
+        ADAPTERS.put(PageDesign.class, PageDesignAdapter.INSTANCE);
+        ADAPTERS.put(PageBlock.class, PageDesignAdapter.BLOCK);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        // Exact class match only, anything else goes through Gson's own adapters
+        return (TypeAdapter<T>) ADAPTERS.get(type.getRawType());
+    }
+}
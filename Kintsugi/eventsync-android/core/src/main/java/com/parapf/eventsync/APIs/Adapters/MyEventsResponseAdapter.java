@@ -0,0 +1,128 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.MyEventsResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link MyEventsResponse} (GET api/manager/events).
+ */
+final class MyEventsResponseAdapter extends TypeAdapter<MyEventsResponse> {
+
+    static final TypeAdapter<MyEventsResponse> INSTANCE = new MyEventsResponseAdapter();
+
+    static final TypeAdapter<MyEventsResponse.Event> EVENT = new EventAdapter();
+
+    @Override
+    public MyEventsResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        MyEventsResponse result = new MyEventsResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    result.setSuccess(JsonFields.readBoolean(in, false));
+                    break;
+                case "data":
+                    result.setData(JsonFields.readList(in, EVENT));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, MyEventsResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("success").value(value.isSuccess());
+        out.name("data");
+        JsonFields.writeList(out, value.getData(), EVENT);
+        out.name("message").value(value.getMessage());
+        out.endObject();
+    }
+
+    private static final class EventAdapter extends TypeAdapter<MyEventsResponse.Event> {
+
+        @Override
+        public MyEventsResponse.Event read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            MyEventsResponse.Event result = new MyEventsResponse.Event();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "title":
+                        result.setTitle(JsonFields.readString(in));
+                        break;
+                    case "description":
+                        result.setDescription(JsonFields.readString(in));
+                        break;
+                    case "startDate":
+                        result.setStartDate(JsonFields.readString(in));
+                        break;
+                    case "endDate":
+                        result.setEndDate(JsonFields.readString(in));
+                        break;
+                    case "location":
+                        result.setLocation(JsonFields.readString(in));
+                        break;
+                    case "maxCapacity":
+                        result.setMaxCapacity(JsonFields.readInt(in, 0));
+                        break;
+                    case "status":
+                        result.setStatus(JsonFields.readString(in));
+                        break;
+                    case "imageUrl":
+                        result.setImageUrl(JsonFields.readString(in));
+                        break;
+                    case "createdAt":
+                        result.setCreatedAt(JsonFields.readString(in));
+                        break;
+                    case "registrationCount":
+                        result.setRegistrationCount(JsonFields.readInt(in, 0));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, MyEventsResponse.Event value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("title").value(value.getTitle());
+            out.name("description").value(value.getDescription());
+            out.name("startDate").value(value.getStartDate());
+            out.name("endDate").value(value.getEndDate());
+            out.name("location").value(value.getLocation());
+            out.name("maxCapacity").value(value.getMaxCapacity());
+            out.name("status").value(value.getStatus());
+            out.name("imageUrl").value(value.getImageUrl());
+            out.name("createdAt").value(value.getCreatedAt());
+            out.name("registrationCount").value(value.getRegistrationCount());
+            out.endObject();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.models.PageBlock;
+import com.parapf.eventsync.models.PageDesign;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link PageDesign} (the event page JSONB).
+ */
+final class PageDesignAdapter extends TypeAdapter<PageDesign> {
+
+    static final TypeAdapter<PageDesign> INSTANCE = new PageDesignAdapter();
+
+    static final TypeAdapter<PageBlock> BLOCK = new PageBlockAdapter();
+
+    @Override
+    public PageDesign read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        PageDesign result = new PageDesign();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "version":
+                    result.setVersion(JsonFields.readString(in));
+                    break;
+                case "blocks":
+                    result.setBlocks(JsonFields.readList(in, BLOCK));
+                    break;
+                case "createdAt":
+                    result.setCreatedAt(JsonFields.readString(in));
+                    break;
+                case "updatedAt":
+                    result.setUpdatedAt(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, PageDesign value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("version").value(value.getVersion());
+        out.name("blocks");
+        JsonFields.writeList(out, value.getBlocks(), BLOCK);
+        out.name("createdAt").value(value.getCreatedAt());
+        out.name("updatedAt").value(value.getUpdatedAt());
+        out.endObject();
+    }
+
+    private static final class PageBlockAdapter extends TypeAdapter<PageBlock> {
+
+        @Override
+        public PageBlock read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            PageBlock result = new PageBlock();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "type":
+                        result.setType(JsonFields.readString(in));
+                        break;
+                    case "order":
+                        result.setOrder(JsonFields.readInt(in, 0));
+                        break;
+                    case "style":
+                        // Dividers send style as a string ("solid"), only objects are text styles
+                        result.setStyle(JsonFields.readJsonObjectOrSkip(in));
+                        break;
+                    case "content":
+                        result.setContent(JsonFields.readString(in));
+                        break;
+                    case "level":
+                        result.setLevel(JsonFields.readInteger(in));
+                        break;
+                    case "url":
+                        result.setUrl(JsonFields.readString(in));
+                        break;
+                    case "alt":
+                        result.setAlt(JsonFields.readString(in));
+                        break;
+                    case "caption":
+                        result.setCaption(JsonFields.readString(in));
+                        break;
+                    case "width":
+                        result.setWidth(JsonFields.readString(in));
+                        break;
+                    case "height":
+                        result.setHeight(JsonFields.readString(in));
+                        break;
+                    case "alignment":
+                        result.setAlignment(JsonFields.readString(in));
+                        break;
+                    case "rounded":
+                        result.setRounded(JsonFields.readBooleanObject(in));
+                        break;
+                    case "border":
+                        result.setBorder(JsonFields.readBooleanObject(in));
+                        break;
+                    case "text":
+                        result.setText(JsonFields.readString(in));
+                        break;
+                    case "variant":
+                        result.setVariant(JsonFields.readString(in));
+                        break;
+                    case "size":
+                        result.setSize(JsonFields.readString(in));
+                        break;
+                    case "videoUrl":
+                        result.setVideoUrl(JsonFields.readString(in));
+                        break;
+                    case "provider":
+                        result.setProvider(JsonFields.readString(in));
+                        break;
+                    case "thumbnail":
+                        result.setThumbnail(JsonFields.readString(in));
+                        break;
+                    case "spacerHeight":
+                        result.setSpacerHeight(JsonFields.readString(in));
+                        break;
+                    case "dividerStyle":
+                        result.setDividerStyle(JsonFields.readString(in));
+                        break;
+                    case "dividerColor":
+                        result.setDividerColor(JsonFields.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, PageBlock value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("type").value(value.getType());
+            out.name("order").value(value.getOrder());
+            out.name("style");
+            JsonFields.writeElement(out, value.getStyle());
+            out.name("content").value(value.getContent());
+            out.name("level").value(value.getLevel());
+            out.name("url").value(value.getUrl());
+            out.name("alt").value(value.getAlt());
+            out.name("caption").value(value.getCaption());
+            out.name("width").value(value.getWidth());
+            out.name("height").value(value.getHeight());
+            out.name("alignment").value(value.getAlignment());
+            out.name("rounded").value(value.getRounded());
+            out.name("border").value(value.getBorder());
+            out.name("text").value(value.getText());
+            out.name("variant").value(value.getVariant());
+            out.name("size").value(value.getSize());
+            out.name("videoUrl").value(value.getVideoUrl());
+            out.name("provider").value(value.getProvider());
+            out.name("thumbnail").value(value.getThumbnail());
+            out.name("spacerHeight").value(value.getSpacerHeight());
+            out.name("dividerStyle").value(value.getDividerStyle());
+            out.name("dividerColor").value(value.getDividerColor());
+            out.endObject();
+        }
+    }
+}
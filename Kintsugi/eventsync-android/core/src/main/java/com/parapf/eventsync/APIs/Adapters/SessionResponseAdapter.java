@@ -0,0 +1,186 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.SessionResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link SessionResponse} (GET api/auth/get-session).
+ */
+final class SessionResponseAdapter extends TypeAdapter<SessionResponse> {
+
+    static final TypeAdapter<SessionResponse> INSTANCE = new SessionResponseAdapter();
+
+    static final TypeAdapter<SessionResponse.Session> SESSION = new SessionAdapter();
+    static final TypeAdapter<SessionResponse.User> USER = new UserAdapter();
+
+    @Override
+    public SessionResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        SessionResponse result = new SessionResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "session":
+                    result.session = SESSION.read(in);
+                    break;
+                case "user":
+                    result.user = USER.read(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, SessionResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("session");
+        SESSION.write(out, value.session);
+        out.name("user");
+        USER.write(out, value.user);
+        out.endObject();
+    }
+
+    private static final class SessionAdapter extends TypeAdapter<SessionResponse.Session> {
+
+        @Override
+        public SessionResponse.Session read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            SessionResponse.Session result = new SessionResponse.Session();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "expiresAt":
+                        result.expiresAt = JsonFields.readString(in);
+                        break;
+                    case "token":
+                        result.token = JsonFields.readString(in);
+                        break;
+                    case "createdAt":
+                        result.createdAt = JsonFields.readString(in);
+                        break;
+                    case "updatedAt":
+                        result.updatedAt = JsonFields.readString(in);
+                        break;
+                    case "ipAddress":
+                        result.ipAddress = JsonFields.readString(in);
+                        break;
+                    case "userAgent":
+                        result.userAgent = JsonFields.readString(in);
+                        break;
+                    case "userId":
+                        result.userId = JsonFields.readString(in);
+                        break;
+                    case "id":
+                        result.id = JsonFields.readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, SessionResponse.Session value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("expiresAt").value(value.expiresAt);
+            out.name("token").value(value.token);
+            out.name("createdAt").value(value.createdAt);
+            out.name("updatedAt").value(value.updatedAt);
+            out.name("ipAddress").value(value.ipAddress);
+            out.name("userAgent").value(value.userAgent);
+            out.name("userId").value(value.userId);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+    }
+
+    private static final class UserAdapter extends TypeAdapter<SessionResponse.User> {
+
+        @Override
+        public SessionResponse.User read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            SessionResponse.User result = new SessionResponse.User();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name":
+                        result.name = JsonFields.readString(in);
+                        break;
+                    case "email":
+                        result.email = JsonFields.readString(in);
+                        break;
+                    case "emailVerified":
+                        result.emailVerified = JsonFields.readBoolean(in, false);
+                        break;
+                    case "image":
+                        result.image = JsonFields.readString(in);
+                        break;
+                    case "createdAt":
+                        result.createdAt = JsonFields.readString(in);
+                        break;
+                    case "updatedAt":
+                        result.updatedAt = JsonFields.readString(in);
+                        break;
+                    case "role":
+                        result.role = JsonFields.readString(in);
+                        break;
+                    case "banned":
+                        result.banned = JsonFields.readBoolean(in, false);
+                        break;
+                    case "banReason":
+                        result.banReason = JsonFields.readString(in);
+                        break;
+                    case "banExpires":
+                        result.banExpires = JsonFields.readString(in);
+                        break;
+                    case "id":
+                        result.id = JsonFields.readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, SessionResponse.User value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(value.name);
+            out.name("email").value(value.email);
+            out.name("emailVerified").value(value.emailVerified);
+            out.name("image").value(value.image);
+            out.name("createdAt").value(value.createdAt);
+            out.name("updatedAt").value(value.updatedAt);
+            out.name("role").value(value.role);
+            out.name("banned").value(value.banned);
+            out.name("banReason").value(value.banReason);
+            out.name("banExpires").value(value.banExpires);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Requests.SignInRequest;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for the {@link SignInRequest} body.
+ */
+final class SignInRequestAdapter extends TypeAdapter<SignInRequest> {
+
+    static final TypeAdapter<SignInRequest> INSTANCE = new SignInRequestAdapter();
+
+    @Override
+    public SignInRequest read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        String email = null;
+        String password = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "email":
+                    email = JsonFields.readString(in);
+                    break;
+                case "password":
+                    password = JsonFields.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return new SignInRequest(email, password);
+    }
+
+    @Override
+    public void write(JsonWriter out, SignInRequest value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("email").value(value.getEmail());
+        out.name("password").value(value.getPassword());
+        out.endObject();
+    }
+}
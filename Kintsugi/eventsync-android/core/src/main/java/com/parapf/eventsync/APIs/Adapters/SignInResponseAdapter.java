@@ -0,0 +1,49 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.SignInResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link SignInResponse} (POST api/auth/sign-in/email).
+ */
+final class SignInResponseAdapter extends TypeAdapter<SignInResponse> {
+
+    static final TypeAdapter<SignInResponse> INSTANCE = new SignInResponseAdapter();
+
+    @Override
+    public SignInResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        SignInResponse result = new SignInResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "token":
+                    result.setToken(JsonFields.readString(in));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, SignInResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("token").value(value.getToken());
+        out.name("message").value(value.getMessage());
+        out.endObject();
+    }
+}
@@ -0,0 +1,55 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Requests.SignUpRequest;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for the {@link SignUpRequest} body.
+ */
+final class SignUpRequestAdapter extends TypeAdapter<SignUpRequest> {
+
+    static final TypeAdapter<SignUpRequest> INSTANCE = new SignUpRequestAdapter();
+
+    @Override
+    public SignUpRequest read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        String email = null;
+        String password = null;
+        String name = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "email":
+                    email = JsonFields.readString(in);
+                    break;
+                case "password":
+                    password = JsonFields.readString(in);
+                    break;
+                case "name":
+                    name = JsonFields.readString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return new SignUpRequest(email, password, name);
+    }
+
+    @Override
+    public void write(JsonWriter out, SignUpRequest value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("email").value(value.getEmail());
+        out.name("password").value(value.getPassword());
+        out.name("name").value(value.getName());
+        out.endObject();
+    }
+}
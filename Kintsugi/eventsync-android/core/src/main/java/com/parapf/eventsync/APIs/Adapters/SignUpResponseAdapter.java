@@ -0,0 +1,49 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.SignUpResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link SignUpResponse} (POST api/auth/sign-up/email).
+ */
+final class SignUpResponseAdapter extends TypeAdapter<SignUpResponse> {
+
+    static final TypeAdapter<SignUpResponse> INSTANCE = new SignUpResponseAdapter();
+
+    @Override
+    public SignUpResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        SignUpResponse result = new SignUpResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "token":
+                    result.setToken(JsonFields.readString(in));
+                    break;
+                case "message":
+                    result.setError(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, SignUpResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("token").value(value.getToken());
+        out.name("message").value(value.getError());
+        out.endObject();
+    }
+}
@@ -0,0 +1,85 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.UserData;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link UserData} (the "data" of GET api/user).
+ */
+final class UserDataAdapter extends TypeAdapter<UserData> {
+
+    static final TypeAdapter<UserData> INSTANCE = new UserDataAdapter();
+
+    @Override
+    public UserData read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        UserData result = new UserData();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    result.setId(JsonFields.readString(in));
+                    break;
+                case "name":
+                    result.setName(JsonFields.readString(in));
+                    break;
+                case "email":
+                    result.setEmail(JsonFields.readString(in));
+                    break;
+                case "role":
+                    result.setRole(JsonFields.readString(in));
+                    break;
+                case "emailVerified":
+                    result.setEmailVerified(JsonFields.readBoolean(in, false));
+                    break;
+                case "image":
+                    result.setImage(JsonFields.readString(in));
+                    break;
+                case "createdAt":
+                    result.setCreatedAt(JsonFields.readString(in));
+                    break;
+                case "updatedAt":
+                    result.setUpdatedAt(JsonFields.readString(in));
+                    break;
+                case "banned":
+                    result.setBanned(JsonFields.readBoolean(in, false));
+                    break;
+                case "banReason":
+                    result.setBanReason(JsonFields.readString(in));
+                    break;
+                case "banExpires":
+                    result.setBanExpires(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, UserData value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("name").value(value.getName());
+        out.name("email").value(value.getEmail());
+        out.name("role").value(value.getRole());
+        out.name("emailVerified").value(value.isEmailVerified());
+        out.name("image").value(value.getImage());
+        out.name("createdAt").value(value.getCreatedAt());
+        out.name("updatedAt").value(value.getUpdatedAt());
+        out.name("banned").value(value.isBanned());
+        out.name("banReason").value(value.getBanReason());
+        out.name("banExpires").value(value.getBanExpires());
+        out.endObject();
+    }
+}
@@ -0,0 +1,254 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.UserRegistrationsResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link UserRegistrationsResponse} (GET api/user/registrations).
+ */
+final class UserRegistrationsResponseAdapter extends TypeAdapter<UserRegistrationsResponse> {
+
+    static final TypeAdapter<UserRegistrationsResponse> INSTANCE = new UserRegistrationsResponseAdapter();
+
+    static final TypeAdapter<UserRegistrationsResponse.Data> DATA = new DataAdapter();
+    static final TypeAdapter<UserRegistrationsResponse.Registration> REGISTRATION = new RegistrationAdapter();
+    static final TypeAdapter<UserRegistrationsResponse.Event> EVENT = new EventAdapter();
+    static final TypeAdapter<UserRegistrationsResponse.Team> TEAM = new TeamAdapter();
+
+    @Override
+    public UserRegistrationsResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        UserRegistrationsResponse result = new UserRegistrationsResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    result.setSuccess(JsonFields.readBoolean(in, false));
+                    break;
+                case "data":
+                    result.setData(DATA.read(in));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, UserRegistrationsResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("success").value(value.isSuccess());
+        out.name("data");
+        DATA.write(out, value.getData());
+        out.name("message").value(value.getMessage());
+        out.endObject();
+    }
+
+    private static final class DataAdapter extends TypeAdapter<UserRegistrationsResponse.Data> {
+
+        @Override
+        public UserRegistrationsResponse.Data read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            UserRegistrationsResponse.Data result = new UserRegistrationsResponse.Data();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "registrations":
+                        result.setRegistrations(JsonFields.readList(in, REGISTRATION));
+                        break;
+                    case "total":
+                        result.setTotal(JsonFields.readInt(in, 0));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, UserRegistrationsResponse.Data value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("registrations");
+            JsonFields.writeList(out, value.getRegistrations(), REGISTRATION);
+            out.name("total").value(value.getTotal());
+            out.endObject();
+        }
+    }
+
+    private static final class RegistrationAdapter extends TypeAdapter<UserRegistrationsResponse.Registration> {
+
+        @Override
+        public UserRegistrationsResponse.Registration read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            UserRegistrationsResponse.Registration result = new UserRegistrationsResponse.Registration();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "status":
+                        result.setStatus(JsonFields.readString(in));
+                        break;
+                    case "registeredAt":
+                        result.setRegisteredAt(JsonFields.readString(in));
+                        break;
+                    case "checkedInAt":
+                        result.setCheckedInAt(JsonFields.readString(in));
+                        break;
+                    case "event":
+                        result.setEvent(EVENT.read(in));
+                        break;
+                    case "team":
+                        result.setTeam(TEAM.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, UserRegistrationsResponse.Registration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("status").value(value.getStatus());
+            out.name("registeredAt").value(value.getRegisteredAt());
+            out.name("checkedInAt").value(value.getCheckedInAt());
+            out.name("event");
+            EVENT.write(out, value.getEvent());
+            out.name("team");
+            TEAM.write(out, value.getTeam());
+            out.endObject();
+        }
+    }
+
+    private static final class EventAdapter extends TypeAdapter<UserRegistrationsResponse.Event> {
+
+        @Override
+        public UserRegistrationsResponse.Event read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            UserRegistrationsResponse.Event result = new UserRegistrationsResponse.Event();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "title":
+                        result.setTitle(JsonFields.readString(in));
+                        break;
+                    case "description":
+                        result.setDescription(JsonFields.readString(in));
+                        break;
+                    case "startDate":
+                        result.setStartDate(JsonFields.readString(in));
+                        break;
+                    case "endDate":
+                        result.setEndDate(JsonFields.readString(in));
+                        break;
+                    case "location":
+                        result.setLocation(JsonFields.readString(in));
+                        break;
+                    case "imageUrl":
+                        result.setImageUrl(JsonFields.readString(in));
+                        break;
+                    case "status":
+                        result.setStatus(JsonFields.readString(in));
+                        break;
+                    case "maxCapacity":
+                        result.setMaxCapacity(JsonFields.readInt(in, 0));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, UserRegistrationsResponse.Event value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("title").value(value.getTitle());
+            out.name("description").value(value.getDescription());
+            out.name("startDate").value(value.getStartDate());
+            out.name("endDate").value(value.getEndDate());
+            out.name("location").value(value.getLocation());
+            out.name("imageUrl").value(value.getImageUrl());
+            out.name("status").value(value.getStatus());
+            out.name("maxCapacity").value(value.getMaxCapacity());
+            out.endObject();
+        }
+    }
+
+    private static final class TeamAdapter extends TypeAdapter<UserRegistrationsResponse.Team> {
+
+        @Override
+        public UserRegistrationsResponse.Team read(JsonReader in) throws IOException {
+            if (JsonFields.isNull(in)) return null;
+            UserRegistrationsResponse.Team result = new UserRegistrationsResponse.Team();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        result.setId(JsonFields.readString(in));
+                        break;
+                    case "name":
+                        result.setName(JsonFields.readString(in));
+                        break;
+                    case "description":
+                        result.setDescription(JsonFields.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, UserRegistrationsResponse.Team value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("name").value(value.getName());
+            out.name("description").value(value.getDescription());
+            out.endObject();
+        }
+    }
+}
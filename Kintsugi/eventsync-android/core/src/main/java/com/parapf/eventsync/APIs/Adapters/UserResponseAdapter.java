@@ -0,0 +1,58 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.parapf.eventsync.APIs.Responses.UserResponse;
+
+import java.io.IOException;
+
+/**
+ * Streaming adapter for {@link UserResponse} (GET api/user).
+ */
+final class UserResponseAdapter extends TypeAdapter<UserResponse> {
+
+    static final TypeAdapter<UserResponse> INSTANCE = new UserResponseAdapter();
+
+    @Override
+    public UserResponse read(JsonReader in) throws IOException {
+        if (JsonFields.isNull(in)) return null;
+        UserResponse result = new UserResponse();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    result.setSuccess(JsonFields.readBoolean(in, false));
+                    break;
+                case "data":
+                    result.setData(UserDataAdapter.INSTANCE.read(in));
+                    break;
+                case "message":
+                    result.setMessage(JsonFields.readString(in));
+                    break;
+                case "error":
+                    result.setError(JsonFields.readString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return result;
+    }
+
+    @Override
+    public void write(JsonWriter out, UserResponse value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("success").value(value.isSuccess());
+        out.name("data");
+        UserDataAdapter.INSTANCE.write(out, value.getData());
+        out.name("message").value(value.getMessage());
+        out.name("error").value(value.getError());
+        out.endObject();
+    }
+}
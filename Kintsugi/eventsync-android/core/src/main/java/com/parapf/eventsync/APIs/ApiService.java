@@ -14,11 +14,13 @@ import com.parapf.eventsync.APIs.Responses.UserResponse;
 import retrofit2.Call; // <--- Import Call
 import retrofit2.http.Body;
 import retrofit2.http.GET;
-import retrofit2.http.Header;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
 
+/**
+ * Credentials are added by AuthInterceptor, endpoints don't take them as parameters
+ */
 public interface ApiService {
 
     /**
@@ -34,10 +36,10 @@ public interface ApiService {
     Call<SignInResponse> signIn(@Body SignInRequest body);
 
     @GET("api/auth/get-session")
-    Call<SessionResponse> getSession(@Header("Cookie") String cookieHeader);
+    Call<SessionResponse> getSession();
 
     @POST("api/auth/sign-out")
-    Call<Void> signOut(@Header("Cookie") String cookieHeader);
+    Call<Void> signOut();
 
     @GET("api/events/list")
     Call<EventsListResponse> getEventsList(
@@ -54,11 +56,11 @@ public interface ApiService {
 
 
     @GET("api/manager/events")
-    Call<MyEventsResponse> getMyEvents(@Header("Cookie") String cookieHeader);
+    Call<MyEventsResponse> getMyEvents();
     @GET("api/user/registrations")
-    Call<UserRegistrationsResponse> getUserRegistrations(@Header("Cookie") String cookieHeader);
+    Call<UserRegistrationsResponse> getUserRegistrations();
 
 
     @GET("api/user")
-    Call<UserResponse> getCurrentUser(@Header("Cookie") String cookieHeader);
+    Call<UserResponse> getCurrentUser();
 }
\ No newline at end of file
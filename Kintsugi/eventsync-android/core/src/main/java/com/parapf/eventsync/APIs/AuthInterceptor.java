@@ -0,0 +1,48 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Attaches the signed-in user's bearer token to every request, so ApiService methods
+ * don't take credential parameters. Session cookies come from the client's PersistentCookieJar.
+ */
+public class AuthInterceptor implements Interceptor {
+
+    private static final String SESSION_COOKIE_NAME = "better-auth.session_token=";
+
+    private final CredentialStore credentials;
+
+    public AuthInterceptor(@NonNull CredentialStore credentials) {
+        this.credentials = credentials;
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        return chain.proceed(authorize(chain.request()));
+    }
+
+    /**
+     * The request with Authorization (and a token cookie fallback) added from the in-memory credentials
+     */
+    @NonNull
+    public Request authorize(@NonNull Request request) {
+        String token = credentials.get().getToken();
+        if (token == null || token.isEmpty()) {
+            return request;
+        }
+
+        // Signup only hands out a token; OkHttp replaces this Cookie header
+        // with the jar's cookies whenever the jar has any for the URL
+        return request.newBuilder()
+                .header("Authorization", "Bearer " + token)
+                .header("Cookie", SESSION_COOKIE_NAME + token)
+                .build();
+    }
+}
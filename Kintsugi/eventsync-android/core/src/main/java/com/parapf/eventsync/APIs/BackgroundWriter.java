@@ -0,0 +1,40 @@
+package com.parapf.eventsync.APIs;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes the latest value of some in-memory state on a background thread.
+ *
+ * Only one write is queued at a time and it reads the state when it runs,
+ * so a burst of updates costs a single write that ends on the last one.
+ */
+final class BackgroundWriter<T> {
+
+    private final Supplier<T> latest;
+    private final Consumer<T> sink;
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final ExecutorService executor;
+
+    BackgroundWriter(String threadName, Supplier<T> latest, Consumer<T> sink) {
+        this.latest = latest;
+        this.sink = sink;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    void schedule() {
+        if (pending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                pending.set(false);
+                sink.accept(latest.get());
+            });
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Network interceptor that applies our per-endpoint freshness policy to GET responses
+ * before they reach the OkHttp disk cache.
+ *
+ * The backend does not send cache headers we can rely on, so the client decides how long
+ * each endpoint may be served from cache without asking the server. Once an entry goes
+ * stale, OkHttp revalidates it with If-None-Match / If-Modified-Since (using the ETag or
+ * Last-Modified the server sent) and serves the stored body when the server answers 304.
+ */
+public class CachePolicyInterceptor implements Interceptor {
+
+    // Public event list: short freshness window, then revalidate
+    static final String EVENTS_LIST_POLICY = "public, max-age=60";
+
+    // Event details (carry the page JSONB): always revalidate, body comes from cache on 304
+    static final String EVENT_DETAILS_POLICY = "public, no-cache";
+
+    // Per-user data: cache privately, always revalidate
+    static final String USER_DATA_POLICY = "private, no-cache";
+
+    // Session/auth data must never be written to disk
+    static final String NO_STORE_POLICY = "no-store";
+
+    // Path pattern -> Cache-Control, first match wins
+    private static final Map<Pattern, String> POLICIES = new LinkedHashMap<>();
+
+    static {
+        POLICIES.put(Pattern.compile("^/api/events/list$"), EVENTS_LIST_POLICY);
+        POLICIES.put(Pattern.compile("^/api/events/[^/]+$"), EVENT_DETAILS_POLICY);
+        POLICIES.put(Pattern.compile("^/api/manager/events$"), USER_DATA_POLICY);
+        POLICIES.put(Pattern.compile("^/api/user/registrations$"), USER_DATA_POLICY);
+        POLICIES.put(Pattern.compile("^/api/user$"), NO_STORE_POLICY);
+        POLICIES.put(Pattern.compile("^/api/auth/.*"), NO_STORE_POLICY);
+    }
+
+    @NonNull
+    @Override
+    public Response intercept(@NonNull Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        if (!"GET".equals(request.method())) {
+            return response;
+        }
+
+        String policy = policyFor(request.url().encodedPath());
+        if (policy == null) {
+            return response;
+        }
+
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", policy)
+                .build();
+    }
+
+    /**
+     * Returns the Cache-Control value for the given path, or null to keep the server's headers
+     */
+    static String policyFor(String path) {
+        for (Map.Entry<Pattern, String> entry : POLICIES.entrySet()) {
+            if (entry.getKey().matcher(path).matches()) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,373 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+
+/**
+ * Single-flight layer under ApiService.
+ *
+ * Identical GET calls (same method, URL and auth identity) that are enqueued while one is
+ * already in flight do not hit the network again: they join the running exchange and get
+ * the same parsed body, fanned out to every callback on the main thread. Error bodies are
+ * read once and each callback gets its own copy.
+ *
+ * Canceling one caller only detaches it (it gets onFailure("Canceled") like a plain call);
+ * the exchange itself is canceled once the last caller has left.
+ *
+ * Only enqueue() is coalesced, execute() goes straight to the network.
+ *
+ * Credentials added later by an interceptor aren't on the Retrofit request yet, so pass an
+ * identity supplier (e.g. CredentialStore::identity) to keep different users apart.
+ */
+public class CoalescingCallAdapterFactory extends CallAdapter.Factory {
+
+    // Key -> running exchange. Guarded by itself.
+    private static final Map<String, InFlight<?>> IN_FLIGHT = new HashMap<>();
+
+    private static final AtomicLong networkCalls = new AtomicLong();
+    private static final AtomicLong deduplicatedCalls = new AtomicLong();
+
+    private final Supplier<String> identity;
+
+    /** Key on the credentials found on the request itself */
+    public CoalescingCallAdapterFactory() {
+        this(() -> null);
+    }
+
+    /** @param identity who the call will be sent as, added to the coalescing key */
+    public CoalescingCallAdapterFactory(@NonNull Supplier<String> identity) {
+        this.identity = identity;
+    }
+
+    @Override
+    public CallAdapter<?, ?> get(@NonNull Type returnType, @NonNull Annotation[] annotations,
+                                 @NonNull Retrofit retrofit) {
+        if (getRawType(returnType) != Call.class) {
+            return null;
+        }
+
+        // Let the default adapter handle main-thread delivery, we only wrap its Call
+        @SuppressWarnings("unchecked")
+        final CallAdapter<Object, Call<Object>> delegate =
+                (CallAdapter<Object, Call<Object>>) retrofit.nextCallAdapter(this, returnType, annotations);
+        // Where the default adapter delivers callbacks (main thread on Android, null on the JVM)
+        final Executor callbackExecutor = retrofit.callbackExecutor();
+
+        return new CallAdapter<Object, Call<Object>>() {
+            @NonNull
+            @Override
+            public Type responseType() {
+                return delegate.responseType();
+            }
+
+            @NonNull
+            @Override
+            public Call<Object> adapt(@NonNull Call<Object> call) {
+                return new CoalescingCall<>(delegate.adapt(call), identity, callbackExecutor);
+            }
+        };
+    }
+
+    // === STATS ===
+
+    /** Calls that actually went to the network through this layer */
+    public static long getNetworkCalls() { return networkCalls.get(); }
+
+    /** Calls that were served by joining an identical in-flight call */
+    public static long getDeduplicatedCalls() { return deduplicatedCalls.get(); }
+
+    /**
+     * Cancel a call made through this layer.
+     *
+     * @return whether that stopped a network exchange, false when other callers are still
+     * waiting on it (or it was already canceled)
+     */
+    public static boolean cancel(@NonNull Call<?> call) {
+        if (call instanceof CoalescingCall) {
+            return ((CoalescingCall<?>) call).detach();
+        }
+        boolean wasCanceled = call.isCanceled();
+        call.cancel();
+        return !wasCanceled;
+    }
+
+    public static void resetStats() {
+        networkCalls.set(0);
+        deduplicatedCalls.set(0);
+    }
+
+    /**
+     * Coalescing key: method, full URL and the credentials the call was built with
+     */
+    static String keyFor(Request request) {
+        return keyFor(request, null);
+    }
+
+    static String keyFor(Request request, String identity) {
+        return request.method() + " " + request.url()
+                + " cookie=" + request.header("Cookie")
+                + " auth=" + request.header("Authorization")
+                + " as=" + identity;
+    }
+
+    // === CALL WRAPPER ===
+
+    static final class CoalescingCall<T> implements Call<T> {
+
+        private final Call<T> delegate;
+        private final Supplier<String> identity;
+        private final Executor callbackExecutor;
+        // All guarded by this
+        private InFlight<T> flight;
+        private Callback<T> callback;
+        private boolean executed;
+        private boolean coalesced;
+        private boolean canceled;
+
+        CoalescingCall(Call<T> delegate, Supplier<String> identity, Executor callbackExecutor) {
+            this.delegate = delegate;
+            this.identity = identity;
+            this.callbackExecutor = callbackExecutor;
+        }
+
+        @Override
+        public void enqueue(@NonNull Callback<T> callback) {
+            Request request = delegate.request();
+            boolean get = "GET".equals(request.method());
+            synchronized (this) {
+                if (executed) throw new IllegalStateException("Already executed.");
+                executed = true;
+                coalesced = get;
+                this.callback = callback;
+            }
+
+            if (!get) {
+                networkCalls.incrementAndGet();
+                delegate.enqueue(callback);
+                return;
+            }
+
+            String key = keyFor(request, identity.get());
+            InFlight<T> joined;
+            boolean start = false;
+
+            synchronized (IN_FLIGHT) {
+                @SuppressWarnings("unchecked")
+                InFlight<T> existing = (InFlight<T>) IN_FLIGHT.get(key);
+                if (existing != null && existing.join(this)) {
+                    joined = existing;
+                } else {
+                    joined = new InFlight<>(key, delegate);
+                    joined.join(this);
+                    IN_FLIGHT.put(key, joined);
+                    start = true;
+                }
+            }
+
+            boolean canceledWhileJoining;
+            synchronized (this) {
+                flight = joined;
+                canceledWhileJoining = canceled;
+            }
+
+            if (start) {
+                networkCalls.incrementAndGet();
+                delegate.enqueue(joined);
+            } else {
+                deduplicatedCalls.incrementAndGet();
+            }
+
+            if (canceledWhileJoining) {
+                // cancel() ran before we were registered and left it to us
+                joined.leave(this);
+            }
+        }
+
+        @NonNull
+        @Override
+        public Response<T> execute() throws IOException {
+            synchronized (this) {
+                if (executed) throw new IllegalStateException("Already executed.");
+                executed = true;
+            }
+            networkCalls.incrementAndGet();
+            return delegate.execute();
+        }
+
+        @Override
+        public synchronized boolean isExecuted() {
+            return executed;
+        }
+
+        @Override
+        public void cancel() {
+            detach();
+        }
+
+        /** cancel(), returning whether the network exchange was canceled with it */
+        boolean detach() {
+            InFlight<T> current;
+            boolean shared;
+            synchronized (this) {
+                if (canceled) return false;
+                canceled = true;
+                current = flight;
+                shared = coalesced;
+            }
+            if (current != null) {
+                // Other callers may still be waiting on the shared exchange
+                return current.leave(this);
+            } else if (!shared) {
+                delegate.cancel();
+                return true;
+            }
+            // enqueue() is still registering this call and will leave once it has
+            return false;
+        }
+
+        @Override
+        public synchronized boolean isCanceled() {
+            return canceled;
+        }
+
+        @NonNull
+        @Override
+        public Call<T> clone() {
+            return new CoalescingCall<>(delegate.clone(), identity, callbackExecutor);
+        }
+
+        @NonNull
+        @Override
+        public Request request() {
+            return delegate.request();
+        }
+
+        @NonNull
+        @Override
+        public Timeout timeout() {
+            return delegate.timeout();
+        }
+
+        /** Run a callback where the default adapter would have */
+        void deliver(Runnable callback) {
+            if (callbackExecutor != null) {
+                callbackExecutor.execute(callback);
+            } else {
+                callback.run();
+            }
+        }
+    }
+
+    // === SHARED EXCHANGE ===
+
+    private static final class InFlight<T> implements Callback<T> {
+
+        private final String key;
+        private final Call<T> call;
+        private final List<CoalescingCall<T>> waiters = new ArrayList<>();
+        private boolean done;
+
+        InFlight(String key, Call<T> call) {
+            this.key = key;
+            this.call = call;
+        }
+
+        /** Returns false if the exchange already finished and can't take new callers */
+        synchronized boolean join(CoalescingCall<T> waiter) {
+            if (done) return false;
+            waiters.add(waiter);
+            return true;
+        }
+
+        /** Returns whether this was the last caller, i.e. the network call got canceled */
+        boolean leave(CoalescingCall<T> waiter) {
+            boolean left;
+            boolean cancelNetwork;
+            synchronized (this) {
+                left = waiters.remove(waiter);
+                cancelNetwork = waiters.isEmpty() && !done;
+                if (cancelNetwork) done = true;
+            }
+            if (cancelNetwork) {
+                release();
+                call.cancel();
+            }
+            if (left) {
+                // Same callback a canceled OkHttp call gets
+                waiter.deliver(() -> waiter.callback.onFailure(waiter, new IOException("Canceled")));
+            }
+            return cancelNetwork;
+        }
+
+        @Override
+        public void onResponse(@NonNull Call<T> call, @NonNull Response<T> response) {
+            List<CoalescingCall<T>> waiters = finish();
+            ResponseBody errorBody = response.errorBody();
+            if (errorBody == null) {
+                for (CoalescingCall<T> waiter : waiters) {
+                    waiter.callback.onResponse(waiter, response);
+                }
+                return;
+            }
+
+            // An error body can only be read once, give every caller its own copy
+            byte[] bytes;
+            try (ResponseBody body = errorBody) {
+                bytes = body.bytes();
+            } catch (IOException e) {
+                for (CoalescingCall<T> waiter : waiters) {
+                    waiter.callback.onFailure(waiter, e);
+                }
+                return;
+            }
+            for (CoalescingCall<T> waiter : waiters) {
+                waiter.callback.onResponse(waiter, Response.<T>error(
+                        ResponseBody.create(bytes, errorBody.contentType()), response.raw()));
+            }
+        }
+
+        @Override
+        public void onFailure(@NonNull Call<T> call, @NonNull Throwable t) {
+            for (CoalescingCall<T> waiter : finish()) {
+                waiter.callback.onFailure(waiter, t);
+            }
+        }
+
+        private List<CoalescingCall<T>> finish() {
+            release();
+            synchronized (this) {
+                done = true;
+                List<CoalescingCall<T>> snapshot = new ArrayList<>(waiters);
+                waiters.clear();
+                return snapshot;
+            }
+        }
+
+        private void release() {
+            synchronized (IN_FLIGHT) {
+                if (IN_FLIGHT.get(key) == this) {
+                    IN_FLIGHT.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory copy of the bearer credentials every request is sent with.
+ * Session cookies live in PersistentCookieJar.
+ *
+ * Reads are a single volatile load, so the interceptor never touches disk on the request path.
+ * Updates swap the whole Credentials object atomically and are written to storage on a
+ * background thread, newest value wins.
+ */
+public class CredentialStore {
+
+    /**
+     * Where credentials survive process death (SharedPreferences on Android)
+     */
+    public interface Persister {
+        void persist(@NonNull Credentials credentials);
+    }
+
+    /**
+     * Immutable credentials value
+     */
+    public static final class Credentials {
+
+        public static final Credentials EMPTY = new Credentials(null);
+
+        @Nullable private final String token;
+
+        public Credentials(@Nullable String token) {
+            this.token = token;
+        }
+
+        @Nullable public String getToken() { return token; }
+
+        public boolean isEmpty() {
+            return token == null || token.isEmpty();
+        }
+    }
+
+    private final AtomicReference<Credentials> current;
+    private final BackgroundWriter<Credentials> writer;
+
+    /**
+     * @param initial credentials already on disk, loaded once at startup
+     */
+    public CredentialStore(@NonNull Credentials initial, @NonNull Persister persister) {
+        this.current = new AtomicReference<>(initial);
+        this.writer = new BackgroundWriter<>("credential-writer", current::get, persister::persist);
+    }
+
+    /** Current credentials, never null */
+    @NonNull
+    public Credentials get() {
+        return current.get();
+    }
+
+    public void setToken(@Nullable String token) {
+        update(c -> new Credentials(token));
+    }
+
+    public void clear() {
+        update(c -> Credentials.EMPTY);
+    }
+
+    /**
+     * Who requests are currently sent as, for keys that must not mix users (e.g. call coalescing)
+     */
+    @Nullable
+    public String identity() {
+        return current.get().token;
+    }
+
+    private void update(UnaryOperator<Credentials> change) {
+        current.updateAndGet(change);
+        writer.schedule();
+    }
+}
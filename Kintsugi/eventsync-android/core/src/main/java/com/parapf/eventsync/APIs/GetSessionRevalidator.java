@@ -0,0 +1,46 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+import com.parapf.eventsync.APIs.Responses.SessionResponse;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import retrofit2.Response;
+
+/**
+ * Revalidates with better-auth's get-session: a live session answers with session + user
+ * (and may rotate the cookie, which the cookie jar picks up), a dead one with 401 or a null body.
+ */
+public class GetSessionRevalidator implements SessionRevalidator {
+
+    private final Supplier<ApiService> api;
+
+    /**
+     * @param api supplied lazily, the revalidator is created while the client is still being built
+     */
+    public GetSessionRevalidator(@NonNull Supplier<ApiService> api) {
+        this.api = api;
+    }
+
+    @NonNull
+    @Override
+    public Outcome revalidate() {
+        try {
+            Response<SessionResponse> response = api.get().getSession().execute();
+            if (response.code() == 401) {
+                return Outcome.EXPIRED;
+            }
+            if (!response.isSuccessful()) {
+                return Outcome.UNAVAILABLE;
+            }
+            SessionResponse body = response.body();
+            return body != null && body.session != null && body.user != null
+                    ? Outcome.REFRESHED
+                    : Outcome.EXPIRED;
+        } catch (IOException e) {
+            return Outcome.UNAVAILABLE;
+        }
+    }
+}
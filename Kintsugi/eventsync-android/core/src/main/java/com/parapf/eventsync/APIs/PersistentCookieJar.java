@@ -0,0 +1,166 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import okhttp3.Cookie;
+import okhttp3.CookieJar;
+import okhttp3.HttpUrl;
+
+/**
+ * Cookie jar for the API client: keeps cookies in memory, scoped and expired the way
+ * OkHttp's Cookie parses them, and writes the persistent ones to storage in the background.
+ * Cookies named in keepAcrossRestarts (the auth session) are written even without an expiry,
+ * otherwise a session cookie sent without Max-Age/Expires would sign the user out on every
+ * process death.
+ *
+ * A Set-Cookie from any response (sign-in, session rotation, sign-out) replaces the stored cookie
+ * with the same name/domain/path, so requests always go out with the server's latest session.
+ */
+public class PersistentCookieJar implements CookieJar {
+
+    /**
+     * Stores the encoded persistent cookies (one line each, see encode)
+     */
+    public interface Persister {
+        void persist(@NonNull List<String> cookies);
+    }
+
+    // name|domain|path -> cookie
+    private final Map<String, Cookie> cookies = new ConcurrentHashMap<>();
+    private final Set<String> keepAcrossRestarts;
+    private final BackgroundWriter<List<String>> writer;
+
+    /**
+     * @param saved lines previously handed to the persister
+     */
+    public PersistentCookieJar(@NonNull Collection<String> saved, @NonNull Persister persister) {
+        this(saved, persister, Collections.emptySet());
+    }
+
+    /**
+     * @param saved              lines previously handed to the persister
+     * @param keepAcrossRestarts cookie names stored even when the server sent them as session cookies
+     */
+    public PersistentCookieJar(@NonNull Collection<String> saved, @NonNull Persister persister,
+                               @NonNull Set<String> keepAcrossRestarts) {
+        this.keepAcrossRestarts = keepAcrossRestarts;
+        long now = System.currentTimeMillis();
+        for (String line : saved) {
+            Cookie cookie = decode(line);
+            if (cookie != null && cookie.expiresAt() > now) {
+                cookies.put(keyOf(cookie), cookie);
+            }
+        }
+        writer = new BackgroundWriter<>("cookie-writer", this::encodePersistent, persister::persist);
+    }
+
+    @Override
+    public void saveFromResponse(@NonNull HttpUrl url, @NonNull List<Cookie> received) {
+        long now = System.currentTimeMillis();
+        boolean changed = false;
+        for (Cookie cookie : received) {
+            if (cookie.expiresAt() <= now) {
+                // Server deleting the cookie (sign-out sets Max-Age=0)
+                changed |= cookies.remove(keyOf(cookie)) != null;
+            } else {
+                Cookie previous = cookies.put(keyOf(cookie), cookie);
+                changed |= isStored(cookie) || (previous != null && isStored(previous));
+            }
+        }
+        if (changed) writer.schedule();
+    }
+
+    @NonNull
+    @Override
+    public List<Cookie> loadForRequest(@NonNull HttpUrl url) {
+        long now = System.currentTimeMillis();
+        boolean expired = false;
+        List<Cookie> matching = new ArrayList<>();
+
+        Iterator<Cookie> it = cookies.values().iterator();
+        while (it.hasNext()) {
+            Cookie cookie = it.next();
+            if (cookie.expiresAt() <= now) {
+                it.remove();
+                expired = true;
+            } else if (cookie.matches(url)) {
+                matching.add(cookie);
+            }
+        }
+        if (expired) writer.schedule();
+        return matching;
+    }
+
+    /**
+     * The Cookie header a request to url would carry, or null if there are no cookies for it
+     */
+    @Nullable
+    public String cookieHeader(@NonNull HttpUrl url) {
+        List<Cookie> matching = loadForRequest(url);
+        if (matching.isEmpty()) return null;
+
+        StringBuilder header = new StringBuilder();
+        for (Cookie cookie : matching) {
+            if (header.length() > 0) header.append("; ");
+            header.append(cookie.name()).append('=').append(cookie.value());
+        }
+        return header.toString();
+    }
+
+    public void clear() {
+        cookies.clear();
+        writer.schedule();
+    }
+
+    // === STORAGE FORMAT ===
+
+    private List<String> encodePersistent() {
+        List<String> lines = new ArrayList<>();
+        for (Cookie cookie : cookies.values()) {
+            if (isStored(cookie)) {
+                lines.add(encode(cookie));
+            }
+        }
+        return lines;
+    }
+
+    private boolean isStored(Cookie cookie) {
+        return cookie.persistent() || keepAcrossRestarts.contains(cookie.name());
+    }
+
+    /**
+     * "domain&lt;TAB&gt;Set-Cookie value"; the domain is needed to parse host-only cookies back
+     */
+    static String encode(Cookie cookie) {
+        return cookie.domain() + '\t' + cookie;
+    }
+
+    @Nullable
+    static Cookie decode(String line) {
+        int tab = line.indexOf('\t');
+        if (tab <= 0) return null;
+        try {
+            HttpUrl url = new HttpUrl.Builder()
+                    .scheme("https")
+                    .host(line.substring(0, tab))
+                    .build();
+            return Cookie.parse(url, line.substring(tab + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String keyOf(Cookie cookie) {
+        return cookie.name() + '|' + cookie.domain() + '|' + cookie.path();
+    }
+}
@@ -8,4 +8,7 @@ public class SignInRequest {
         this.email = email;
         this.password = password;
     }
+
+    public String getEmail() { return email; }
+    public String getPassword() { return password; }
 }
@@ -18,4 +18,8 @@ public class SignUpRequest {
         this.password = password;
         this.name = name;
     }
+
+    public String getEmail() { return email; }
+    public String getPassword() { return password; }
+    public String getName() { return name; }
 }
\ No newline at end of file
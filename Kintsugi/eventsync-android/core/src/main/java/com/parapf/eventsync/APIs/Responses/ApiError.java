@@ -11,4 +11,7 @@ public class ApiError {
 
     public String getCode() { return code; }
     public String getMessage() { return message; }
+
+    public void setCode(String code) { this.code = code; }
+    public void setMessage(String message) { this.message = message; }
 }
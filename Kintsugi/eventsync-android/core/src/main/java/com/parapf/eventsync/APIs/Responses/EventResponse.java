@@ -1,8 +1,7 @@
 package com.parapf.eventsync.APIs.Responses;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.annotations.SerializedName;
+import com.parapf.eventsync.models.PageDesign;
 
 import androidx.annotation.Nullable;
 
@@ -35,6 +34,22 @@ public class EventResponse {
         return error;
     }
 
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public void setData(EventData data) {
+        this.data = data;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
     public static class EventData {
         @SerializedName("id")
         private String id;
@@ -82,10 +97,10 @@ public class EventResponse {
         @SerializedName("updatedAt")
         private String updatedAt;
 
-        // Use JsonElement instead of JsonObject to handle null
+        // Decoded straight into the page model while the response streams in
         @SerializedName("page")
         @Nullable
-        private JsonElement page;
+        private PageDesign page;
 
         // Getters
         public String getId() { return id; }
@@ -108,28 +123,37 @@ public class EventResponse {
         public String getUpdatedAt() { return updatedAt; }
 
         /**
-         * Get page as JsonObject (returns null if page is null or not an object)
+         * Get the page design (returns null if the event has no page or it wasn't an object)
          */
         @Nullable
-        public JsonObject getPage() {
-            if (page == null || page.isJsonNull()) {
-                return null;
-            }
-            if (page.isJsonObject()) {
-                return page.getAsJsonObject();
-            }
-            return null;
+        public PageDesign getPage() {
+            return page;
         }
 
         /**
-         * Check if page exists and is not null
+         * Check if page exists and has blocks to render
          */
         public boolean hasPage() {
-            return page != null && !page.isJsonNull() && page.isJsonObject();
+            return page != null && page.getBlocks() != null && !page.getBlocks().isEmpty();
         }
 
         // Setters
-        public void setPage(@Nullable JsonObject page) {
+        public void setId(String id) { this.id = id; }
+        public void setTitle(String title) { this.title = title; }
+        public void setDescription(String description) { this.description = description; }
+        public void setImageUrl(@Nullable String imageUrl) { this.imageUrl = imageUrl; }
+        public void setStartDate(String startDate) { this.startDate = startDate; }
+        public void setEndDate(String endDate) { this.endDate = endDate; }
+        public void setLocation(String location) { this.location = location; }
+        public void setMaxCapacity(@Nullable Integer maxCapacity) { this.maxCapacity = maxCapacity; }
+        public void setRegistrationDeadline(@Nullable String registrationDeadline) { this.registrationDeadline = registrationDeadline; }
+        public void setStatus(String status) { this.status = status; }
+        public void setManagerId(String managerId) { this.managerId = managerId; }
+        public void setTeamId(@Nullable String teamId) { this.teamId = teamId; }
+        public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+        public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
+
+        public void setPage(@Nullable PageDesign page) {
             this.page = page;
         }
     }
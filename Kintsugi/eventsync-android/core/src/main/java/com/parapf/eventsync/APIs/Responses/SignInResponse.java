@@ -12,4 +12,7 @@ public class SignInResponse {
 
     public String getToken() { return token; }
     public String getMessage() { return message; }
+
+    public void setToken(String token) { this.token = token; }
+    public void setMessage(String message) { this.message = message; }
 }
@@ -22,4 +22,12 @@ public class SignUpResponse {
     public String getError() {
         return error;
     }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
 }
\ No newline at end of file
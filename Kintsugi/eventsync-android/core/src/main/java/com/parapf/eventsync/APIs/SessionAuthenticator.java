@@ -0,0 +1,130 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import okhttp3.Authenticator;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.Route;
+
+/**
+ * Handles 401s for the whole client at once.
+ *
+ * The first 401 starts one SessionRevalidator round; every other 401 that arrives meanwhile waits
+ * for it instead of starting its own. Requests sent before a round finished share that round's
+ * outcome: REFRESHED replays them with the new credentials, EXPIRED fails them all with their
+ * 401 and publishes a single SessionExpiredEvent.
+ *
+ * Auth endpoints are left alone: a 401 from sign-in means wrong password, not an expired session.
+ */
+public class SessionAuthenticator implements Authenticator {
+
+    /**
+     * Receives the expired-session event, on the network thread that ran the round
+     */
+    public interface Listener {
+        void onSessionExpired(@NonNull SessionExpiredEvent event);
+    }
+
+    private static final String AUTH_PATH = "/api/auth/";
+
+    // Original attempt + one replay
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final SessionRevalidator revalidator;
+    private final AuthInterceptor auth;
+    private final Listener listener;
+
+    private final Object lock = new Object();
+    private boolean running;
+    private SessionRevalidator.Outcome lastOutcome;
+    private long lastCompletedAtMillis;
+
+    /**
+     * @param auth re-applies the current credentials to replayed requests (application interceptors
+     *             don't run again for follow-ups)
+     */
+    public SessionAuthenticator(@NonNull SessionRevalidator revalidator, @NonNull AuthInterceptor auth,
+                                @NonNull Listener listener) {
+        this.revalidator = revalidator;
+        this.auth = auth;
+        this.listener = listener;
+    }
+
+    @Nullable
+    @Override
+    public Request authenticate(@Nullable Route route, @NonNull Response response) throws IOException {
+        Request request = response.request();
+        if (request.url().encodedPath().startsWith(AUTH_PATH)) return null;
+        if (attempts(response) >= MAX_ATTEMPTS) return null;
+        if (!sentWithCredentials(response)) return null; // Nothing to revalidate
+
+        SessionRevalidator.Outcome outcome = awaitRevalidation(response);
+        if (outcome != SessionRevalidator.Outcome.REFRESHED) {
+            return null;
+        }
+
+        // Drop the stale credentials; OkHttp's bridge adds the jar's current cookies again
+        return auth.authorize(request.newBuilder()
+                .removeHeader("Authorization")
+                .removeHeader("Cookie")
+                .build());
+    }
+
+    private SessionRevalidator.Outcome awaitRevalidation(Response response) throws IOException {
+        synchronized (lock) {
+            // Sent with the credentials the last round already judged
+            if (lastOutcome != null && response.sentRequestAtMillis() <= lastCompletedAtMillis) {
+                return lastOutcome;
+            }
+            if (running) {
+                try {
+                    while (running) lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for session revalidation");
+                }
+                return lastOutcome;
+            }
+            running = true;
+        }
+
+        SessionRevalidator.Outcome outcome = SessionRevalidator.Outcome.UNAVAILABLE;
+        long completedAt;
+        try {
+            outcome = revalidator.revalidate();
+        } finally {
+            completedAt = System.currentTimeMillis();
+            synchronized (lock) {
+                lastOutcome = outcome;
+                lastCompletedAtMillis = completedAt;
+                running = false;
+                lock.notifyAll();
+            }
+        }
+
+        if (outcome == SessionRevalidator.Outcome.EXPIRED) {
+            listener.onSessionExpired(new SessionExpiredEvent(response.request().url(), completedAt));
+        }
+        return outcome;
+    }
+
+    private static boolean sentWithCredentials(Response response) {
+        // The network request also carries the cookie jar's cookies
+        Response network = response.networkResponse();
+        Request sent = network != null ? network.request() : response.request();
+        return sent.header("Authorization") != null || sent.header("Cookie") != null;
+    }
+
+    private static int attempts(Response response) {
+        int count = 1;
+        while ((response = response.priorResponse()) != null) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,31 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+import okhttp3.HttpUrl;
+
+/**
+ * Published once when a burst of 401s ends with the server saying the session is gone.
+ * Every request of that burst fails with its 401 response; this is what the UI reacts to.
+ */
+public final class SessionExpiredEvent {
+
+    @NonNull private final HttpUrl trigger;
+    private final long detectedAtMillis;
+
+    public SessionExpiredEvent(@NonNull HttpUrl trigger, long detectedAtMillis) {
+        this.trigger = trigger;
+        this.detectedAtMillis = detectedAtMillis;
+    }
+
+    /** URL of the request whose 401 started the revalidation */
+    @NonNull public HttpUrl getTrigger() { return trigger; }
+
+    public long getDetectedAtMillis() { return detectedAtMillis; }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "SessionExpiredEvent{" + trigger.encodedPath() + " at " + detectedAtMillis + "}";
+    }
+}
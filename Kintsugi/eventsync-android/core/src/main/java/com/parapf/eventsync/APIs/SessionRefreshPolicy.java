@@ -0,0 +1,51 @@
+package com.parapf.eventsync.APIs;
+
+import com.parapf.eventsync.utils.TimelineFormatter;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * When to revalidate the session ahead of sessionExpiresAt.
+ *
+ * Aim for LEAD before expiry, moved earlier by a random share of JITTER so devices whose sessions
+ * started together (everyone signing in as an event opens) don't all refresh in the same minute.
+ * Never wait longer than MAX_DELAY: better-auth extends a session when it's used after a day.
+ */
+public final class SessionRefreshPolicy {
+
+    static final long LEAD_MILLIS = TimeUnit.HOURS.toMillis(1);
+    static final long JITTER_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    static final long MIN_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    static final long MAX_DELAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private SessionRefreshPolicy() {}
+
+    /**
+     * Milliseconds from now until the next refresh, or -1 if the expiry is unknown
+     */
+    public static long delayMillis(String expiresAt, long nowMillis, Random random) {
+        long expiry = parseExpiresAt(expiresAt);
+        if (expiry < 0) return -1;
+
+        long jitter = (long) (random.nextDouble() * JITTER_MILLIS);
+        long delay = expiry - LEAD_MILLIS - jitter - nowMillis;
+
+        if (delay < MIN_DELAY_MILLIS) {
+            // Already inside the lead window: soon, but still spread out
+            return MIN_DELAY_MILLIS + (long) (random.nextDouble() * MIN_DELAY_MILLIS);
+        }
+        return Math.min(delay, MAX_DELAY_MILLIS - jitter);
+    }
+
+    /**
+     * better-auth's expiresAt in epoch millis, or -1 if missing/unparseable.
+     * Any timestamp form the backend emits (with or without millis, Z or an offset); zoneless ones are UTC.
+     */
+    public static long parseExpiresAt(String expiresAt) {
+        ZonedDateTime expiry = TimelineFormatter.parse(expiresAt, ZoneOffset.UTC);
+        return expiry != null ? expiry.toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Asks the server whether the current session is still good, refreshing credentials if it can.
+ * Called by SessionAuthenticator on a network thread, at most once per burst of 401s.
+ */
+public interface SessionRevalidator {
+
+    enum Outcome {
+        /** Session confirmed (cookies may have rotated); rejected requests can be replayed */
+        REFRESHED,
+        /** Session is gone; the user has to sign in again */
+        EXPIRED,
+        /** Couldn't tell (offline, server error); the 401s are passed through as they are */
+        UNAVAILABLE
+    }
+
+    @NonNull
+    Outcome revalidate();
+}
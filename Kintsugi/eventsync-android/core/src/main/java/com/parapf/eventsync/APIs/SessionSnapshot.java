@@ -0,0 +1,220 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Immutable view of the signed-in session and user at one point in time.
+ *
+ * UserSessionManager publishes a new snapshot on every change, so everything read from one
+ * snapshot (role, id, expiry) belongs together. Build with newBuilder() / toBuilder().
+ */
+public final class SessionSnapshot {
+
+    /** Nobody signed in */
+    public static final SessionSnapshot EMPTY = newBuilder().build();
+
+    // Session data
+    private final String sessionToken;
+    private final String sessionExpiresAt;
+    private final String sessionCreatedAt;
+    private final String sessionUpdatedAt;
+    private final String sessionIpAddress;
+    private final String sessionUserAgent;
+    private final String sessionUserId;
+    private final String sessionId;
+
+    // User data
+    private final String userId;
+    private final String userName;
+    private final String userEmail;
+    private final boolean userEmailVerified;
+    private final String userImage;
+    private final String userCreatedAt;
+    private final String userUpdatedAt;
+    private final String userRole;
+    private final boolean userBanned;
+    private final String userBanReason;
+    private final String userBanExpires;
+
+    private SessionSnapshot(Builder b) {
+        sessionToken = b.sessionToken;
+        sessionExpiresAt = b.sessionExpiresAt;
+        sessionCreatedAt = b.sessionCreatedAt;
+        sessionUpdatedAt = b.sessionUpdatedAt;
+        sessionIpAddress = b.sessionIpAddress;
+        sessionUserAgent = b.sessionUserAgent;
+        sessionUserId = b.sessionUserId;
+        sessionId = b.sessionId;
+
+        userId = b.userId;
+        userName = b.userName;
+        userEmail = b.userEmail;
+        userEmailVerified = b.userEmailVerified;
+        userImage = b.userImage;
+        userCreatedAt = b.userCreatedAt;
+        userUpdatedAt = b.userUpdatedAt;
+        userRole = b.userRole;
+        userBanned = b.userBanned;
+        userBanReason = b.userBanReason;
+        userBanExpires = b.userBanExpires;
+    }
+
+    @NonNull
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @NonNull
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * This session with the profile from /api/user (the authority on profile and role)
+     */
+    @NonNull
+    public SessionSnapshot withUserData(UserData userData) {
+        if (userData == null) return this;
+        return toBuilder()
+                .userId(userData.getId())
+                .userName(userData.getName())
+                .userEmail(userData.getEmail())
+                .userEmailVerified(userData.isEmailVerified())
+                .userImage(userData.getImage())
+                .userCreatedAt(userData.getCreatedAt())
+                .userUpdatedAt(userData.getUpdatedAt())
+                .userRole(userData.getRole())
+                .userBanned(userData.isBanned())
+                .userBanReason(userData.getBanReason())
+                .userBanExpires(userData.getBanExpires())
+                .build();
+    }
+
+    // === GETTERS ===
+
+    public String getSessionToken() { return sessionToken; }
+    public String getSessionExpiresAt() { return sessionExpiresAt; }
+    public String getSessionCreatedAt() { return sessionCreatedAt; }
+    public String getSessionUpdatedAt() { return sessionUpdatedAt; }
+    public String getSessionIpAddress() { return sessionIpAddress; }
+    public String getSessionUserAgent() { return sessionUserAgent; }
+    public String getSessionUserId() { return sessionUserId; }
+    public String getSessionId() { return sessionId; }
+
+    public String getUserId() { return userId; }
+    public String getUserName() { return userName; }
+    public String getUserEmail() { return userEmail; }
+    public boolean isUserEmailVerified() { return userEmailVerified; }
+    public String getUserImage() { return userImage; }
+    public String getUserCreatedAt() { return userCreatedAt; }
+    public String getUserUpdatedAt() { return userUpdatedAt; }
+    public String getUserRole() { return userRole; }
+    public boolean isUserBanned() { return userBanned; }
+    public String getUserBanReason() { return userBanReason; }
+    public String getUserBanExpires() { return userBanExpires; }
+
+    // === ROLE CHECKING HELPERS ===
+
+    public boolean isAdmin() {
+        return "admin".equalsIgnoreCase(userRole);
+    }
+
+    public boolean isManager() {
+        return "manager".equalsIgnoreCase(userRole);
+    }
+
+    public boolean isUser() {
+        return "user".equalsIgnoreCase(userRole);
+    }
+
+    public boolean hasRole(String role) {
+        return role != null && role.equalsIgnoreCase(userRole);
+    }
+
+    public boolean isAuthenticated() {
+        return userId != null && sessionToken != null;
+    }
+
+    // === BUILDER ===
+
+    public static final class Builder {
+
+        private String sessionToken;
+        private String sessionExpiresAt;
+        private String sessionCreatedAt;
+        private String sessionUpdatedAt;
+        private String sessionIpAddress;
+        private String sessionUserAgent;
+        private String sessionUserId;
+        private String sessionId;
+
+        private String userId;
+        private String userName;
+        private String userEmail;
+        private boolean userEmailVerified;
+        private String userImage;
+        private String userCreatedAt;
+        private String userUpdatedAt;
+        private String userRole;
+        private boolean userBanned;
+        private String userBanReason;
+        private String userBanExpires;
+
+        private Builder() {}
+
+        private Builder(SessionSnapshot s) {
+            sessionToken = s.sessionToken;
+            sessionExpiresAt = s.sessionExpiresAt;
+            sessionCreatedAt = s.sessionCreatedAt;
+            sessionUpdatedAt = s.sessionUpdatedAt;
+            sessionIpAddress = s.sessionIpAddress;
+            sessionUserAgent = s.sessionUserAgent;
+            sessionUserId = s.sessionUserId;
+            sessionId = s.sessionId;
+
+            userId = s.userId;
+            userName = s.userName;
+            userEmail = s.userEmail;
+            userEmailVerified = s.userEmailVerified;
+            userImage = s.userImage;
+            userCreatedAt = s.userCreatedAt;
+            userUpdatedAt = s.userUpdatedAt;
+            userRole = s.userRole;
+            userBanned = s.userBanned;
+            userBanReason = s.userBanReason;
+            userBanExpires = s.userBanExpires;
+        }
+
+        public Builder sessionToken(String value) { sessionToken = value; return this; }
+        public Builder sessionExpiresAt(String value) { sessionExpiresAt = value; return this; }
+        public Builder sessionCreatedAt(String value) { sessionCreatedAt = value; return this; }
+        public Builder sessionUpdatedAt(String value) { sessionUpdatedAt = value; return this; }
+        public Builder sessionIpAddress(String value) { sessionIpAddress = value; return this; }
+        public Builder sessionUserAgent(String value) { sessionUserAgent = value; return this; }
+        public Builder sessionId(String value) { sessionId = value; return this; }
+
+        /** Also the user id: the session is the source of it until /api/user answers */
+        public Builder sessionUserId(String value) {
+            sessionUserId = value;
+            userId = value;
+            return this;
+        }
+
+        public Builder userId(String value) { userId = value; return this; }
+        public Builder userName(String value) { userName = value; return this; }
+        public Builder userEmail(String value) { userEmail = value; return this; }
+        public Builder userEmailVerified(boolean value) { userEmailVerified = value; return this; }
+        public Builder userImage(String value) { userImage = value; return this; }
+        public Builder userCreatedAt(String value) { userCreatedAt = value; return this; }
+        public Builder userUpdatedAt(String value) { userUpdatedAt = value; return this; }
+        public Builder userRole(String value) { userRole = value; return this; }
+        public Builder userBanned(boolean value) { userBanned = value; return this; }
+        public Builder userBanReason(String value) { userBanReason = value; return this; }
+        public Builder userBanExpires(String value) { userBanExpires = value; return this; }
+
+        @NonNull
+        public SessionSnapshot build() {
+            return new SessionSnapshot(this);
+        }
+    }
+}
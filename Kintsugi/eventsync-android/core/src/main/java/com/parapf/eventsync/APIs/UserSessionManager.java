@@ -0,0 +1,162 @@
+package com.parapf.eventsync.APIs;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory session manager for storing current user data
+ * This data is cleared when the app is killed
+ *
+ * Holds one immutable SessionSnapshot that is swapped atomically, so readers on any thread
+ * never see half of an update. Read getSnapshot() once when several fields must agree.
+ */
+public class UserSessionManager {
+
+    /**
+     * Told when the session changes, with the latest snapshot, on the thread that changed it.
+     * Calls are serialized and the last one always carries the newest snapshot; don't block in it.
+     */
+    public interface Listener {
+        void onSessionChanged(@NonNull SessionSnapshot snapshot);
+    }
+
+    private static UserSessionManager INSTANCE;
+
+    private final AtomicReference<SessionSnapshot> current = new AtomicReference<>(SessionSnapshot.EMPTY);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    // Serializes notifications, see update()
+    private final Object notifyLock = new Object();
+
+    private UserSessionManager() {
+        // Private constructor for singleton
+    }
+
+    public static synchronized UserSessionManager getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new UserSessionManager();
+        }
+        return INSTANCE;
+    }
+
+    /** The current session, never null (EMPTY when signed out) */
+    @NonNull
+    public SessionSnapshot getSnapshot() {
+        return current.get();
+    }
+
+    /**
+     * Replace the whole session (after get-session validation, or restored from SessionStore)
+     */
+    public void setSnapshot(@NonNull SessionSnapshot snapshot) {
+        update(s -> snapshot);
+    }
+
+    /**
+     * Save user data from UserData object (called from /api/user endpoint)
+     */
+    public void saveUserData(UserData userData) {
+        if (userData != null) {
+            update(s -> s.withUserData(userData));
+        }
+    }
+
+    /**
+     * Clear all session data (logout)
+     */
+    public void clearSession() {
+        update(s -> SessionSnapshot.EMPTY);
+    }
+
+    public void addListener(@NonNull Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NonNull Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Atomically derive the next snapshot from the current one (retried if another thread won)
+     */
+    public void update(@NonNull UnaryOperator<SessionSnapshot> change) {
+        SessionSnapshot previous;
+        SessionSnapshot next;
+        do {
+            previous = current.get();
+            next = change.apply(previous);
+        } while (!current.compareAndSet(previous, next));
+
+        if (next != previous) {
+            // Every writer notifies after its swap, one at a time, each call reading the
+            // snapshot as of that call: a writer that swapped later notifies later, so a stale
+            // snapshot can't be the last thing a listener hears
+            synchronized (notifyLock) {
+                for (Listener listener : listeners) {
+                    listener.onSessionChanged(current.get());
+                }
+            }
+        }
+    }
+
+    // === GETTERS (each reads the current snapshot) ===
+
+    public String getSessionToken() { return current.get().getSessionToken(); }
+    public String getSessionExpiresAt() { return current.get().getSessionExpiresAt(); }
+    public String getSessionId() { return current.get().getSessionId(); }
+
+    public String getUserId() { return current.get().getUserId(); }
+    public String getUserName() { return current.get().getUserName(); }
+    public String getUserEmail() { return current.get().getUserEmail(); }
+    public boolean isUserEmailVerified() { return current.get().isUserEmailVerified(); }
+    public String getUserImage() { return current.get().getUserImage(); }
+    public String getUserCreatedAt() { return current.get().getUserCreatedAt(); }
+    public String getUserUpdatedAt() { return current.get().getUserUpdatedAt(); }
+
+    // IMPORTANT: Role getter
+    public String getUserRole() { return current.get().getUserRole(); }
+
+    public boolean isUserBanned() { return current.get().isUserBanned(); }
+    public String getUserBanReason() { return current.get().getUserBanReason(); }
+    public String getUserBanExpires() { return current.get().getUserBanExpires(); }
+
+    // === ROLE CHECKING HELPERS ===
+
+    /**
+     * Check if current user is an admin
+     */
+    public boolean isAdmin() {
+        return current.get().isAdmin();
+    }
+
+    /**
+     * Check if current user is a manager
+     */
+    public boolean isManager() {
+        return current.get().isManager();
+    }
+
+    /**
+     * Check if current user is a regular user
+     */
+    public boolean isUser() {
+        return current.get().isUser();
+    }
+
+    /**
+     * Check if user has specific role
+     */
+    public boolean hasRole(String role) {
+        return current.get().hasRole(role);
+    }
+
+    /**
+     * Check if user is authenticated
+     */
+    public boolean isAuthenticated() {
+        return current.get().isAuthenticated();
+    }
+}
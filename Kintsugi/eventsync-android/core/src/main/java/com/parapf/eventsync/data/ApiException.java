@@ -0,0 +1,27 @@
+package com.parapf.eventsync.data;
+
+import java.io.IOException;
+
+/**
+ * The server answered, but not with what we asked for (HTTP error or success=false)
+ */
+public class ApiException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int code;
+
+    public ApiException(int code, String message) {
+        super(message);
+        this.code = code;
+    }
+
+    /** HTTP status, or 200 when the body itself reported success=false */
+    public int getCode() {
+        return code;
+    }
+
+    public boolean isUnauthorized() {
+        return code == 401;
+    }
+}
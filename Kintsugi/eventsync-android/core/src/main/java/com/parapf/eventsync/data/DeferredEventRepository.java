@@ -0,0 +1,56 @@
+package com.parapf.eventsync.data;
+
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.models.RegistrationModel;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * EventRepository whose real implementation is still being built (e.g. the API client on its
+ * background init thread). Creating it costs nothing; each call waits for the delegate on the
+ * calling thread, which is a background thread anyway (see EventRepository).
+ */
+public class DeferredEventRepository implements EventRepository {
+
+    private final CompletableFuture<? extends EventRepository> delegate;
+
+    public DeferredEventRepository(CompletableFuture<? extends EventRepository> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public EventsListResponse.Data getEvents(int page, int limit) throws IOException {
+        return await().getEvents(page, limit);
+    }
+
+    @Override
+    public EventResponse.EventData getEvent(String eventId) throws IOException {
+        return await().getEvent(eventId);
+    }
+
+    @Override
+    public List<EventModel> getMyEvents() throws IOException {
+        return await().getMyEvents();
+    }
+
+    @Override
+    public List<RegistrationModel> getRegistrations() throws IOException {
+        return await().getRegistrations();
+    }
+
+    private EventRepository await() throws IOException {
+        try {
+            return delegate.get();
+        } catch (ExecutionException e) {
+            throw new IOException("API client unavailable: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the API client", e);
+        }
+    }
+}
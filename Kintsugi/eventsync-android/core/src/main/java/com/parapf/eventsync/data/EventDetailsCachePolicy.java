@@ -0,0 +1,78 @@
+package com.parapf.eventsync.data;
+
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.models.PageBlock;
+import com.parapf.eventsync.models.PageDesign;
+
+import java.util.Objects;
+
+/**
+ * How EventDetailsCache tells versions of an event apart and weighs its entries.
+ * The event's and page's updatedAt are its version.
+ */
+public final class EventDetailsCachePolicy {
+
+    // Rough JVM costs, enough to keep large pages from crowding out everything else
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE = 4;
+
+    private EventDetailsCachePolicy() {
+    }
+
+    /** True when both carry the same event and page versions; unknown versions count as changed */
+    public static boolean isSameVersion(EventResponse.EventData a, EventResponse.EventData b) {
+        // Without a timestamp there's no way to tell, so treat it as changed
+        if (a.getUpdatedAt() == null || b.getUpdatedAt() == null) return false;
+        if (!a.getUpdatedAt().equals(b.getUpdatedAt())) return false;
+
+        PageDesign pa = a.getPage();
+        PageDesign pb = b.getPage();
+        if (pa == null || pb == null) return pa == pb;
+        return Objects.equals(pa.getUpdatedAt(), pb.getUpdatedAt());
+    }
+
+    // === SIZE ESTIMATE ===
+
+    /** Approximate heap size of a parsed event and its page */
+    public static int estimateBytes(EventResponse.EventData event) {
+        long bytes = OBJECT_OVERHEAD + 15 * REFERENCE
+                + chars(event.getId()) + chars(event.getTitle()) + chars(event.getDescription())
+                + chars(event.getImageUrl()) + chars(event.getStartDate()) + chars(event.getEndDate())
+                + chars(event.getLocation()) + chars(event.getRegistrationDeadline())
+                + chars(event.getStatus()) + chars(event.getManagerId()) + chars(event.getTeamId())
+                + chars(event.getCreatedAt()) + chars(event.getUpdatedAt());
+
+        PageDesign page = event.getPage();
+        if (page != null) {
+            bytes += OBJECT_OVERHEAD + 4 * REFERENCE
+                    + chars(page.getVersion()) + chars(page.getCreatedAt()) + chars(page.getUpdatedAt());
+            if (page.getBlocks() != null) {
+                for (PageBlock block : page.getBlocks()) {
+                    bytes += estimateBytes(block);
+                }
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static long estimateBytes(PageBlock block) {
+        if (block == null) return REFERENCE;
+        long bytes = OBJECT_OVERHEAD + 25 * REFERENCE
+                + chars(block.getId()) + chars(block.getType()) + chars(block.getContent())
+                + chars(block.getUrl()) + chars(block.getAlt()) + chars(block.getCaption())
+                + chars(block.getWidth()) + chars(block.getHeight()) + chars(block.getAlignment())
+                + chars(block.getText()) + chars(block.getVariant()) + chars(block.getSize())
+                + chars(block.getVideoUrl()) + chars(block.getProvider()) + chars(block.getThumbnail())
+                + chars(block.getSpacerHeight()) + chars(block.getDividerStyle()) + chars(block.getDividerColor());
+        if (block.getStyle() != null) {
+            // Style maps are tiny; count each entry as two short strings plus a map node
+            bytes += OBJECT_OVERHEAD + block.getStyle().size() * (2 * (OBJECT_OVERHEAD + 16) + 32);
+        }
+        return bytes;
+    }
+
+    private static long chars(String s) {
+        // String object + backing array, 2 bytes per char worst case
+        return s == null ? 0 : OBJECT_OVERHEAD + 12 + 2L * s.length();
+    }
+}
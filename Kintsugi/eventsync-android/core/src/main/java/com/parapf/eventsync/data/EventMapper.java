@@ -0,0 +1,98 @@
+package com.parapf.eventsync.data;
+
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.APIs.Responses.MyEventsResponse;
+import com.parapf.eventsync.APIs.Responses.UserRegistrationsResponse;
+import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.models.RegistrationModel;
+import com.parapf.eventsync.utils.TimelineFormatter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * API response -> display model conversion, shared by the list screens
+ */
+public final class EventMapper {
+
+    private EventMapper() {
+    }
+
+    /** Public events list (Events screen) */
+    public static List<EventModel> toEventModels(List<EventsListResponse.Event> events) {
+        if (events == null) return Collections.emptyList();
+
+        List<EventModel> models = new ArrayList<>(events.size());
+        for (EventsListResponse.Event e : events) {
+            models.add(new EventModel(
+                    e.getId(),
+                    e.getTitle(),
+                    e.getDescription(),
+                    TimelineFormatter.formatRange(e.getStartDate(), e.getEndDate()),
+                    e.getLocation(),
+                    e.getImageUrl(),
+                    e.getStartDate(),
+                    e.getEndDate(),
+                    e.getLocation(),
+                    e.getMaxCapacity(),
+                    e.getRegistrationDeadline(),
+                    e.getStatus()
+            ));
+        }
+        return models;
+    }
+
+    /** Events the signed-in manager owns (MyEvents screen) */
+    public static List<EventModel> toManagedEventModels(List<MyEventsResponse.Event> events) {
+        if (events == null) return Collections.emptyList();
+
+        List<EventModel> models = new ArrayList<>(events.size());
+        for (MyEventsResponse.Event e : events) {
+            models.add(new EventModel(
+                    e.getId(),
+                    e.getTitle(),
+                    e.getDescription(),
+                    TimelineFormatter.formatRange(e.getStartDate(), e.getEndDate()),
+                    e.getLocation(),
+                    e.getImageUrl(),
+                    e.getStartDate(),
+                    e.getEndDate(),
+                    e.getLocation(),
+                    e.getMaxCapacity(),
+                    null,
+                    e.getStatus()
+            ));
+        }
+        return models;
+    }
+
+    /** The user's registrations; entries without an event are dropped */
+    public static List<RegistrationModel> toRegistrationModels(List<UserRegistrationsResponse.Registration> registrations) {
+        if (registrations == null) return Collections.emptyList();
+
+        List<RegistrationModel> models = new ArrayList<>(registrations.size());
+        for (UserRegistrationsResponse.Registration reg : registrations) {
+            UserRegistrationsResponse.Event event = reg.getEvent();
+            if (event == null) continue;
+            UserRegistrationsResponse.Team team = reg.getTeam();
+
+            models.add(new RegistrationModel(
+                    reg.getId(),
+                    event.getId(),
+                    event.getTitle(),
+                    event.getDescription(),
+                    TimelineFormatter.formatRange(event.getStartDate(), event.getEndDate()),
+                    event.getLocation(),
+                    event.getImageUrl(),
+                    reg.getStatus(),
+                    team != null ? team.getName() : "Unknown Team",
+                    team != null ? team.getDescription() : null,
+                    reg.getRegisteredAt(),
+                    reg.getCheckedInAt(),
+                    reg.getCheckedInAt() != null && !reg.getCheckedInAt().isEmpty()
+            ));
+        }
+        return models;
+    }
+}
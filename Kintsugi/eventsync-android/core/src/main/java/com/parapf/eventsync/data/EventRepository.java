@@ -0,0 +1,29 @@
+package com.parapf.eventsync.data;
+
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.models.RegistrationModel;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where the screens get event data from. Calls block, so run them off the main thread.
+ *
+ * Failures come out as IOException; ApiException when the server answered with an error.
+ */
+public interface EventRepository {
+
+    /** One page of the public events list, sorted by start date */
+    EventsListResponse.Data getEvents(int page, int limit) throws IOException;
+
+    /** Full event, including its page design */
+    EventResponse.EventData getEvent(String eventId) throws IOException;
+
+    /** Events owned by the signed-in manager */
+    List<EventModel> getMyEvents() throws IOException;
+
+    /** The signed-in user's registrations */
+    List<RegistrationModel> getRegistrations() throws IOException;
+}
@@ -0,0 +1,84 @@
+package com.parapf.eventsync.data;
+
+import com.parapf.eventsync.APIs.ApiService;
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.APIs.Responses.MyEventsResponse;
+import com.parapf.eventsync.APIs.Responses.UserRegistrationsResponse;
+import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.models.RegistrationModel;
+
+import java.io.IOException;
+import java.util.List;
+
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * EventRepository straight on top of ApiService, no local storage
+ */
+public class RemoteEventRepository implements EventRepository {
+
+    private final ApiService api;
+
+    /**
+     * @param api a service whose client attaches credentials (AuthInterceptor)
+     */
+    public RemoteEventRepository(ApiService api) {
+        this.api = api;
+    }
+
+    @Override
+    public EventsListResponse.Data getEvents(int page, int limit) throws IOException {
+        EventsListResponse result = execute(api.getEventsList(page, limit, "startDate", "asc"));
+        if (!result.isSuccess() || result.getData() == null) {
+            throw new ApiException(200, orDefault(result.getMessage(), "Failed to load events"));
+        }
+        return result.getData();
+    }
+
+    @Override
+    public EventResponse.EventData getEvent(String eventId) throws IOException {
+        EventResponse result = execute(api.getEventById(eventId));
+        if (!result.isSuccess() || result.getData() == null) {
+            throw new ApiException(200, orDefault(result.getError(), "Failed to load event"));
+        }
+        return result.getData();
+    }
+
+    @Override
+    public List<EventModel> getMyEvents() throws IOException {
+        MyEventsResponse result = execute(api.getMyEvents());
+        if (!result.isSuccess()) {
+            throw new ApiException(200, orDefault(result.getMessage(), "Failed to load events"));
+        }
+        return EventMapper.toManagedEventModels(result.getData());
+    }
+
+    @Override
+    public List<RegistrationModel> getRegistrations() throws IOException {
+        UserRegistrationsResponse result = execute(api.getUserRegistrations());
+        if (!result.isSuccess()) {
+            throw new ApiException(200, orDefault(result.getMessage(), "Failed to load registrations"));
+        }
+        return result.getData() != null
+                ? EventMapper.toRegistrationModels(result.getData().getRegistrations())
+                : EventMapper.toRegistrationModels(null);
+    }
+
+    private static <T> T execute(Call<T> call) throws IOException {
+        Response<T> response = call.execute();
+        if (!response.isSuccessful()) {
+            throw new ApiException(response.code(), "HTTP " + response.code());
+        }
+        T body = response.body();
+        if (body == null) {
+            throw new ApiException(response.code(), "Empty response body");
+        }
+        return body;
+    }
+
+    private static String orDefault(String message, String fallback) {
+        return message != null ? message : fallback;
+    }
+}
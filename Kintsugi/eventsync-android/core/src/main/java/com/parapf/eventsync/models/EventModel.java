@@ -0,0 +1,83 @@
+package com.parapf.eventsync.models;
+
+import java.util.Objects;
+
+/**
+ * One event as the list screens show it. Immutable with value equality, so list diffs can
+ * compare old and new rows directly (and hand them across threads).
+ */
+public final class EventModel {
+    private final String id;
+    private final String title;
+    private final String description;
+    private final String timeline;
+    private final String venue;
+    private final String imageUrl;  // for bottom sheet
+    private final String startDate;
+    private final String endDate;
+    private final String location;
+    private final Integer maxCapacity;
+    private final String registrationDeadline;
+    private final String status;
+
+    public EventModel(String id, String title, String description, String timeline, String venue) {
+        this(id, title, description, timeline, venue, null, null, null, null, null, null, null);
+    }
+
+    // Full constructor for API response
+    public EventModel(String id, String title, String description, String timeline, String venue,
+                      String imageUrl, String startDate, String endDate, String location,
+                      Integer maxCapacity, String registrationDeadline, String status) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.timeline = timeline;
+        this.venue = venue;
+        this.imageUrl = imageUrl;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.location = location;
+        this.maxCapacity = maxCapacity;
+        this.registrationDeadline = registrationDeadline;
+        this.status = status;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getTimeline() { return timeline; }
+    public String getVenue() { return venue; }
+    public String getImageUrl() { return imageUrl; }
+    public String getStartDate() { return startDate; }
+    public String getEndDate() { return endDate; }
+    public String getLocation() { return location; }
+    public Integer getMaxCapacity() { return maxCapacity; }
+    public String getRegistrationDeadline() { return registrationDeadline; }
+    public String getStatus() { return status; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EventModel)) return false;
+        EventModel that = (EventModel) o;
+        return Objects.equals(id, that.id)
+                && Objects.equals(title, that.title)
+                && Objects.equals(description, that.description)
+                && Objects.equals(timeline, that.timeline)
+                && Objects.equals(venue, that.venue)
+                && Objects.equals(imageUrl, that.imageUrl)
+                && Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate)
+                && Objects.equals(location, that.location)
+                && Objects.equals(maxCapacity, that.maxCapacity)
+                && Objects.equals(registrationDeadline, that.registrationDeadline)
+                && Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, description, timeline, venue, imageUrl, startDate, endDate,
+                location, maxCapacity, registrationDeadline, status);
+    }
+}
@@ -0,0 +1,93 @@
+package com.parapf.eventsync.models;
+
+import java.util.Objects;
+
+/**
+ * One of the user's registrations as the list shows it. Immutable with value equality,
+ * like EventModel.
+ */
+public final class RegistrationModel {
+    private final String registrationId;
+    private final String eventId;
+    private final String eventTitle;
+    private final String eventDescription;
+    private final String timeline;
+    private final String location;
+    private final String imageUrl;
+    private final String status;
+    private final String teamName;
+    private final String teamDescription;
+    private final String registeredAt;
+    private final String checkedInAt;
+    private final boolean isCheckedIn;
+
+    // Constructor for display in RecyclerView
+    public RegistrationModel(String registrationId, String eventId, String eventTitle,
+                             String eventDescription, String timeline, String location,
+                             String status, String teamName) {
+        this(registrationId, eventId, eventTitle, eventDescription, timeline, location,
+                null, status, teamName, null, null, null, false);
+    }
+
+    // Full constructor
+    public RegistrationModel(String registrationId, String eventId, String eventTitle,
+                             String eventDescription, String timeline, String location,
+                             String imageUrl, String status, String teamName,
+                             String teamDescription, String registeredAt,
+                             String checkedInAt, boolean isCheckedIn) {
+        this.registrationId = registrationId;
+        this.eventId = eventId;
+        this.eventTitle = eventTitle;
+        this.eventDescription = eventDescription;
+        this.timeline = timeline;
+        this.location = location;
+        this.imageUrl = imageUrl;
+        this.status = status;
+        this.teamName = teamName;
+        this.teamDescription = teamDescription;
+        this.registeredAt = registeredAt;
+        this.checkedInAt = checkedInAt;
+        this.isCheckedIn = isCheckedIn;
+    }
+
+    // Getters
+    public String getRegistrationId() { return registrationId; }
+    public String getEventId() { return eventId; }
+    public String getEventTitle() { return eventTitle; }
+    public String getEventDescription() { return eventDescription; }
+    public String getTimeline() { return timeline; }
+    public String getLocation() { return location; }
+    public String getImageUrl() { return imageUrl; }
+    public String getStatus() { return status; }
+    public String getTeamName() { return teamName; }
+    public String getTeamDescription() { return teamDescription; }
+    public String getRegisteredAt() { return registeredAt; }
+    public String getCheckedInAt() { return checkedInAt; }
+    public boolean isCheckedIn() { return isCheckedIn; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RegistrationModel)) return false;
+        RegistrationModel that = (RegistrationModel) o;
+        return isCheckedIn == that.isCheckedIn
+                && Objects.equals(registrationId, that.registrationId)
+                && Objects.equals(eventId, that.eventId)
+                && Objects.equals(eventTitle, that.eventTitle)
+                && Objects.equals(eventDescription, that.eventDescription)
+                && Objects.equals(timeline, that.timeline)
+                && Objects.equals(location, that.location)
+                && Objects.equals(imageUrl, that.imageUrl)
+                && Objects.equals(status, that.status)
+                && Objects.equals(teamName, that.teamName)
+                && Objects.equals(teamDescription, that.teamDescription)
+                && Objects.equals(registeredAt, that.registeredAt)
+                && Objects.equals(checkedInAt, that.checkedInAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(registrationId, eventId, eventTitle, eventDescription, timeline, location,
+                imageUrl, status, teamName, teamDescription, registeredAt, checkedInAt, isCheckedIn);
+    }
+}
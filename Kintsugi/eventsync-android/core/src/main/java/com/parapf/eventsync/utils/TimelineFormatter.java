@@ -0,0 +1,172 @@
+package com.parapf.eventsync.utils;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Turns the backend's timestamps into the strings shown on event cards and the details sheet.
+ * Used to be copy-pasted into MyEvents, RegisteredEventsPage and EventDetailsBottomSheet.
+ *
+ * Accepts what the backend sends: ISO with or without millis ("...T09:00:00.000Z",
+ * "...T09:00:00+05:30") and "yyyy-MM-dd HH:mm:ss", which has no zone and is shown as is.
+ * java.time formatters are immutable, so this is thread-safe; results are memoized per
+ * (start, end, locale, zone) in a small LRU, since the same events get bound over and over.
+ */
+public final class TimelineFormatter {
+
+    public static final String NOT_AVAILABLE = "Date not available";
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final DateTimeFormatter SQL_DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.US);
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("MMM dd, yyyy", Locale.US);
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm", Locale.US);
+    private static final DateTimeFormatter DAY_TIME = DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm", Locale.US);
+    private static final DateTimeFormatter DETAIL = DateTimeFormatter.ofPattern("MMM dd, yyyy hh:mm a", Locale.US);
+
+    private static final Map<Key, String> ranges = lru();
+    private static final Map<Key, String> dates = lru();
+
+    private TimelineFormatter() {
+    }
+
+    /**
+     * Card timeline in the device's zone: "Nov 22, 2025 09:00 - 17:00" on one day,
+     * "Nov 22, 2025 09:00 - Nov 23, 2025 17:00" across days
+     */
+    public static String formatRange(String startDate, String endDate) {
+        return formatRange(startDate, endDate, Locale.US, ZoneId.systemDefault());
+    }
+
+    public static String formatRange(String startDate, String endDate, Locale locale, ZoneId zone) {
+        Key key = new Key(startDate, endDate, locale, zone);
+        String cached = ranges.get(key);
+        if (cached == null) {
+            cached = computeRange(startDate, endDate, locale, zone);
+            ranges.put(key, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Single timestamp for the details sheet: "Nov 22, 2025 09:00 AM".
+     * Anything unparseable comes back as-is.
+     */
+    public static String formatDate(String isoDate) {
+        return formatDate(isoDate, Locale.getDefault(), ZoneId.systemDefault());
+    }
+
+    public static String formatDate(String isoDate, Locale locale, ZoneId zone) {
+        if (isoDate == null || isoDate.isEmpty()) {
+            return "N/A";
+        }
+
+        Key key = new Key(isoDate, null, locale, zone);
+        String cached = dates.get(key);
+        if (cached == null) {
+            ZonedDateTime date = parse(isoDate, zone);
+            cached = date != null ? DETAIL.withLocale(locale).format(date) : isoDate;
+            dates.put(key, cached);
+        }
+        return cached;
+    }
+
+    private static String computeRange(String startDate, String endDate, Locale locale, ZoneId zone) {
+        ZonedDateTime start = parse(startDate, zone);
+        ZonedDateTime end = parse(endDate, zone);
+
+        if (start != null && end != null) {
+            if (start.toLocalDate().equals(end.toLocalDate())) {
+                DateTimeFormatter time = TIME.withLocale(locale);
+                return DAY.withLocale(locale).format(start) + " " + time.format(start) + " - " + time.format(end);
+            }
+            DateTimeFormatter dayTime = DAY_TIME.withLocale(locale);
+            return dayTime.format(start) + " - " + dayTime.format(end);
+        }
+        if (start != null && endDate == null) {
+            return DAY_TIME.withLocale(locale).format(start);
+        }
+
+        // Fallback: just the YYYY-MM-DD part
+        try {
+            if (startDate != null && endDate != null) {
+                return startDate.substring(0, 10) + " to " + endDate.substring(0, 10);
+            } else if (startDate != null) {
+                return startDate.substring(0, 10);
+            }
+        } catch (IndexOutOfBoundsException ignored) {
+            // Not even a date, give up
+        }
+        return NOT_AVAILABLE;
+    }
+
+    /**
+     * Any backend timestamp in the given zone, null if it isn't one.
+     * Zoneless ("yyyy-MM-dd HH:mm:ss", ISO without offset) values are read as wall-clock time in that zone.
+     */
+    public static ZonedDateTime parse(String value, ZoneId zone) {
+        if (value == null || value.length() < 19) return null;
+        try {
+            if (value.charAt(10) == ' ') {
+                // "yyyy-MM-dd HH:mm:ss": wall-clock time without a zone
+                return LocalDateTime.parse(value, SQL_DATETIME).atZone(zone);
+            }
+            char last = value.charAt(value.length() - 1);
+            boolean hasOffset = last == 'Z' || value.indexOf('+', 19) > 0 || value.indexOf('-', 19) > 0;
+            return hasOffset
+                    ? OffsetDateTime.parse(value).atZoneSameInstant(zone)
+                    : LocalDateTime.parse(value).atZone(zone);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static <K, V> Map<K, V> lru() {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        });
+    }
+
+    private static final class Key {
+        private final String start;
+        private final String end;
+        private final Locale locale;
+        private final ZoneId zone;
+
+        Key(String start, String end, Locale locale, ZoneId zone) {
+            this.start = start;
+            this.end = end;
+            this.locale = locale;
+            this.zone = zone;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return Objects.equals(start, k.start) && Objects.equals(end, k.end)
+                    && locale.equals(k.locale) && zone.equals(k.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = Objects.hashCode(start);
+            h = 31 * h + Objects.hashCode(end);
+            h = 31 * h + locale.hashCode();
+            return 31 * h + zone.hashCode();
+        }
+    }
+}
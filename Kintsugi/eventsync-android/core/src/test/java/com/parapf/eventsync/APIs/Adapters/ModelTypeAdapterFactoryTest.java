@@ -0,0 +1,114 @@
+package com.parapf.eventsync.APIs.Adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.parapf.eventsync.APIs.Requests.SignInRequest;
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.APIs.Responses.SessionResponse;
+import com.parapf.eventsync.models.PageBlock;
+import com.parapf.eventsync.models.PageDesign;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ModelTypeAdapterFactoryTest {
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .serializeNulls()
+            .setLenient()
+            .create();
+
+    @Test
+    public void eventsList_parsesNestedObjectsAndPagination() {
+        String json = "{\"success\":true,\"data\":{\"events\":[{\"id\":\"e1\",\"title\":\"Hack\","
+                + "\"maxCapacity\":null,\"startDate\":\"2025-11-22T09:00:00.000Z\",\"unknown\":{\"a\":[1,2]}}],"
+                + "\"pagination\":{\"page\":1,\"limit\":20,\"total\":41,\"totalPages\":3,\"hasMore\":true}}}";
+
+        EventsListResponse response = gson.fromJson(json, EventsListResponse.class);
+
+        assertTrue(response.isSuccess());
+        assertEquals(1, response.getData().getEvents().size());
+        EventsListResponse.Event event = response.getData().getEvents().get(0);
+        assertEquals("e1", event.getId());
+        assertEquals(0, event.getMaxCapacity());
+        assertEquals("2025-11-22T09:00:00.000Z", event.getStartDate());
+        assertEquals(3, response.getData().getPagination().getTotalPages());
+        assertTrue(response.getData().getPagination().isHasMore());
+    }
+
+    @Test
+    public void eventResponse_keepsNullablesAndPage() {
+        String json = "{\"success\":true,\"data\":{\"id\":\"e1\",\"maxCapacity\":null,"
+                + "\"page\":{\"version\":\"1\",\"blocks\":[{\"id\":\"b1\",\"type\":\"paragraph\"}]}}}";
+
+        EventResponse.EventData data = gson.fromJson(json, EventResponse.class).getData();
+
+        assertNull(data.getMaxCapacity());
+        assertTrue(data.hasPage());
+        assertEquals("paragraph", data.getPage().getBlocks().get(0).getType());
+    }
+
+    @Test
+    public void eventResponse_streamsLargePageAndSkipsUnknownBlockFields() {
+        StringBuilder json = new StringBuilder("{\"success\":true,\"data\":{\"id\":\"e1\",\"page\":{\"blocks\":[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"id\":\"b").append(i).append("\",\"type\":\"columns\",\"order\":").append(i)
+                    .append(",\"columns\":[[{\"type\":\"paragraph\",\"content\":\"x\"}]],\"columnCount\":2}");
+        }
+        json.append("]},\"title\":\"after page\"}}");
+
+        EventResponse.EventData data = gson.fromJson(json.toString(), EventResponse.class).getData();
+
+        assertEquals(500, data.getPage().getBlocks().size());
+        assertEquals(499, data.getPage().getBlocks().get(499).getOrder());
+        assertEquals("after page", data.getTitle());
+    }
+
+    @Test
+    public void eventResponse_nonObjectPageIsNull() {
+        String json = "{\"success\":true,\"data\":{\"id\":\"e1\",\"page\":\"oops\",\"title\":\"t\"}}";
+
+        EventResponse.EventData data = gson.fromJson(json, EventResponse.class).getData();
+
+        assertNull(data.getPage());
+        assertFalse(data.hasPage());
+        assertEquals("t", data.getTitle());
+    }
+
+    @Test
+    public void pageDesign_ignoresNonObjectStyle() {
+        String json = "{\"blocks\":[{\"id\":\"b1\",\"type\":\"divider\",\"order\":2,\"style\":\"dashed\"},"
+                + "{\"id\":\"b2\",\"type\":\"heading\",\"order\":1,\"level\":3,\"style\":{\"bold\":true}}]}";
+
+        PageDesign design = gson.fromJson(json, PageDesign.class);
+
+        PageBlock divider = design.getBlocks().get(0);
+        PageBlock heading = design.getBlocks().get(1);
+        assertNull(divider.getStyle());
+        assertEquals(Integer.valueOf(3), heading.getLevel());
+        assertTrue(heading.getStyle().get("bold").getAsBoolean());
+    }
+
+    @Test
+    public void session_readsPublicFields() {
+        String json = "{\"session\":{\"token\":\"t\",\"expiresAt\":\"2025-12-01T00:00:00.000Z\"},"
+                + "\"user\":{\"id\":\"u1\",\"role\":\"manager\",\"emailVerified\":\"true\"}}";
+
+        SessionResponse session = gson.fromJson(json, SessionResponse.class);
+
+        assertEquals("t", session.session.token);
+        assertEquals("manager", session.user.role);
+        assertTrue(session.user.emailVerified);
+    }
+
+    @Test
+    public void signInRequest_writesBody() {
+        String json = gson.toJson(new SignInRequest("a@b.c", "secret"));
+
+        assertEquals("{\"email\":\"a@b.c\",\"password\":\"secret\"}", json);
+    }
+}
@@ -0,0 +1,245 @@
+package com.parapf.eventsync.APIs;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+
+import static org.junit.Assert.*;
+
+/**
+ * Concurrent identical calls through the coalescing layer against a local stand-in server.
+ * The server holds every response until the test releases it, so the calls really overlap.
+ */
+public class CoalescingCallAdapterFactoryTest {
+
+    private static final int CONCURRENT = 20;
+
+    interface Api {
+        @GET("api/events")
+        Call<String> events();
+
+        @POST("api/events")
+        Call<String> create();
+    }
+
+    private MockWebServer server;
+    private Api api;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicReference<String> identity = new AtomicReference<>("alice");
+    private final AtomicInteger networkCanceled = new AtomicInteger();
+    private final AtomicReference<MockResponse> reply =
+            new AtomicReference<>(new MockResponse().setBody("\"ok\""));
+
+    @Before
+    public void setUp() throws Exception {
+        CoalescingCallAdapterFactory.resetStats();
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return reply.get();
+            }
+        });
+        server.start();
+
+        OkHttpClient client = new OkHttpClient.Builder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void canceled(okhttp3.Call call) {
+                        networkCanceled.incrementAndGet();
+                    }
+                })
+                .build();
+
+        api = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .client(client)
+                .addCallAdapterFactory(new CoalescingCallAdapterFactory(identity::get))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(Api.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        release.countDown();
+        server.shutdown();
+    }
+
+    @Test
+    public void identicalGets_oneRequest_everyCallbackAnswered() throws Exception {
+        Recorder recorder = new Recorder(CONCURRENT);
+        for (int i = 0; i < CONCURRENT; i++) {
+            api.events().enqueue(recorder);
+        }
+        release.countDown();
+
+        assertTrue(recorder.await());
+        assertEquals(CONCURRENT, recorder.bodies.size());
+        for (String body : recorder.bodies) {
+            assertEquals("ok", body);
+        }
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, CoalescingCallAdapterFactory.getNetworkCalls());
+        assertEquals(CONCURRENT - 1, CoalescingCallAdapterFactory.getDeduplicatedCalls());
+    }
+
+    @Test
+    public void errorBody_readableByEveryCaller() throws Exception {
+        reply.set(new MockResponse().setResponseCode(500).setBody("{\"message\":\"down\"}"));
+        Recorder recorder = new Recorder(3);
+        for (int i = 0; i < 3; i++) {
+            api.events().enqueue(recorder);
+        }
+        release.countDown();
+
+        assertTrue(recorder.await());
+        assertEquals(3, recorder.errorBodies.size());
+        for (String body : recorder.errorBodies) {
+            assertEquals("{\"message\":\"down\"}", body);
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void differentIdentities_areNotMerged() throws Exception {
+        Recorder recorder = new Recorder(2);
+        api.events().enqueue(recorder);
+        identity.set("bob");
+        api.events().enqueue(recorder);
+        release.countDown();
+
+        assertTrue(recorder.await());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(2, CoalescingCallAdapterFactory.getNetworkCalls());
+        assertEquals(0, CoalescingCallAdapterFactory.getDeduplicatedCalls());
+    }
+
+    @Test
+    public void cancelingOneCaller_keepsTheExchangeForTheOthers() throws Exception {
+        Recorder recorder = new Recorder(2);
+        // The first call's delegate is the one that went to the network
+        Call<String> first = api.events();
+        first.enqueue(recorder);
+        api.events().enqueue(recorder);
+        server.takeRequest(5, TimeUnit.SECONDS);
+
+        first.cancel();
+        release.countDown();
+
+        assertTrue(recorder.await());
+        assertEquals(1, recorder.bodies.size());
+        assertEquals(1, recorder.canceled.get());
+        assertTrue(first.isCanceled());
+        assertEquals(0, networkCanceled.get());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void lastCallerLeaving_cancelsTheExchange() throws Exception {
+        Recorder recorder = new Recorder(2);
+        Call<String> first = api.events();
+        Call<String> second = api.events();
+        first.enqueue(recorder);
+        second.enqueue(recorder);
+        server.takeRequest(5, TimeUnit.SECONDS);
+
+        // Only the last one out stops the download
+        assertFalse(CoalescingCallAdapterFactory.cancel(first));
+        assertEquals(0, networkCanceled.get());
+        assertTrue(CoalescingCallAdapterFactory.cancel(second));
+        assertFalse(CoalescingCallAdapterFactory.cancel(second));
+
+        assertTrue(recorder.await());
+        assertEquals(2, recorder.canceled.get());
+        assertTrue(recorder.bodies.isEmpty());
+        assertEquals(1, networkCanceled.get());
+
+        // The canceled exchange isn't joined anymore
+        Recorder next = new Recorder(1);
+        api.events().enqueue(next);
+        release.countDown();
+        assertTrue(next.await());
+        assertEquals(1, next.bodies.size());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void posts_areNeverCoalesced() throws Exception {
+        Recorder recorder = new Recorder(3);
+        for (int i = 0; i < 3; i++) {
+            api.create().enqueue(recorder);
+        }
+        release.countDown();
+
+        assertTrue(recorder.await());
+        assertEquals(3, recorder.bodies.size());
+        assertEquals(3, server.getRequestCount());
+        assertEquals(3, CoalescingCallAdapterFactory.getNetworkCalls());
+        assertEquals(0, CoalescingCallAdapterFactory.getDeduplicatedCalls());
+    }
+
+    /** Collects what every callback got, counts down once per callback */
+    private static final class Recorder implements Callback<String> {
+        final List<String> bodies = new CopyOnWriteArrayList<>();
+        final List<String> errorBodies = new CopyOnWriteArrayList<>();
+        final AtomicInteger canceled = new AtomicInteger();
+        final CountDownLatch done;
+
+        Recorder(int expected) {
+            done = new CountDownLatch(expected);
+        }
+
+        boolean await() throws InterruptedException {
+            return done.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void onResponse(Call<String> call, Response<String> response) {
+            try {
+                if (response.isSuccessful()) {
+                    bodies.add(response.body());
+                } else {
+                    errorBodies.add(response.errorBody().string());
+                }
+            } catch (IOException e) {
+                fail(e.toString());
+            } finally {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void onFailure(Call<String> call, Throwable t) {
+            if ("Canceled".equals(t.getMessage())) {
+                canceled.incrementAndGet();
+            }
+            done.countDown();
+        }
+    }
+}
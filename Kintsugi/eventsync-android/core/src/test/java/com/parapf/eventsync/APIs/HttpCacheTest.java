@@ -0,0 +1,112 @@
+package com.parapf.eventsync.APIs;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the cache + CachePolicyInterceptor setup from ApiClient against a local stand-in server.
+ */
+public class HttpCacheTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        client = new OkHttpClient.Builder()
+                .cache(new Cache(tmp.newFolder("http_cache"), 1024 * 1024))
+                .addNetworkInterceptor(new CachePolicyInterceptor())
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void eventDetails_revalidatedWithEtag_304ServedFromCache() throws Exception {
+        String body = "{\"success\":true,\"data\":{\"id\":\"abc\",\"page\":{\"blocks\":[]}}}";
+        server.enqueue(new MockResponse().setBody(body).setHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+
+        String first = get("/api/events/abc");
+        assertEquals(body, first);
+
+        Response second = client.newCall(request("/api/events/abc")).execute();
+        assertEquals(200, second.code());
+        assertEquals(body, second.body().string());
+        assertNotNull(second.cacheResponse());
+        assertEquals(304, second.networkResponse().code());
+
+        server.takeRequest();
+        RecordedRequest revalidation = server.takeRequest();
+        assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+    }
+
+    @Test
+    public void eventDetails_revalidatedWithLastModified() throws Exception {
+        String lastModified = "Wed, 01 Oct 2025 10:00:00 GMT";
+        server.enqueue(new MockResponse().setBody("{}").setHeader("Last-Modified", lastModified));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        get("/api/events/abc");
+        assertEquals("{}", get("/api/events/abc"));
+
+        server.takeRequest();
+        assertEquals(lastModified, server.takeRequest().getHeader("If-Modified-Since"));
+    }
+
+    @Test
+    public void eventsList_freshEntryServedWithoutNetwork() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"success\":true}"));
+
+        get("/api/events/list?page=1&limit=20");
+        Response second = client.newCall(request("/api/events/list?page=1&limit=20")).execute();
+
+        assertEquals("{\"success\":true}", second.body().string());
+        assertNull(second.networkResponse());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void sessionEndpoints_neverStored() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"v\":1}").setHeader("ETag", "\"s1\""));
+        server.enqueue(new MockResponse().setBody("{\"v\":2}").setHeader("ETag", "\"s1\""));
+
+        get("/api/auth/get-session");
+        assertEquals("{\"v\":2}", get("/api/auth/get-session"));
+
+        server.takeRequest();
+        assertNull(server.takeRequest().getHeader("If-None-Match"));
+    }
+
+    private Request request(String path) {
+        return new Request.Builder().url(server.url(path)).build();
+    }
+
+    private String get(String path) throws Exception {
+        try (Response response = client.newCall(request(path)).execute()) {
+            return response.body().string();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.parapf.eventsync.APIs;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import okhttp3.Cookie;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Sign-in, rotation, sign-out and restore of the session cookie against a local stand-in server.
+ */
+public class PersistentCookieJarTest {
+
+    private MockWebServer server;
+    private List<List<String>> persisted;
+    private PersistentCookieJar jar;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        persisted = new CopyOnWriteArrayList<>();
+        jar = new PersistentCookieJar(Collections.emptyList(), persisted::add);
+        client = new OkHttpClient.Builder().cookieJar(jar).build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void rotatedSessionCookie_replacesOldOne() throws Exception {
+        server.enqueue(new MockResponse().addHeader("Set-Cookie",
+                "better-auth.session_token=v1; Max-Age=3600; Path=/; HttpOnly"));
+        server.enqueue(new MockResponse().addHeader("Set-Cookie",
+                "better-auth.session_token=v2; Max-Age=3600; Path=/; HttpOnly"));
+        server.enqueue(new MockResponse());
+
+        call("/api/auth/sign-in/email");
+        call("/api/auth/get-session");
+        call("/api/user");
+
+        server.takeRequest();
+        RecordedRequest second = server.takeRequest();
+        RecordedRequest third = server.takeRequest();
+        assertEquals("better-auth.session_token=v1", second.getHeader("Cookie"));
+        assertEquals("better-auth.session_token=v2", third.getHeader("Cookie"));
+    }
+
+    @Test
+    public void signOutCookie_removesSession() throws Exception {
+        server.enqueue(new MockResponse().addHeader("Set-Cookie",
+                "better-auth.session_token=v1; Max-Age=3600; Path=/"));
+        server.enqueue(new MockResponse().addHeader("Set-Cookie",
+                "better-auth.session_token=; Max-Age=0; Path=/"));
+        server.enqueue(new MockResponse());
+
+        call("/api/auth/sign-in/email");
+        call("/api/auth/sign-out");
+        call("/api/user");
+
+        server.takeRequest();
+        server.takeRequest();
+        assertNull(server.takeRequest().getHeader("Cookie"));
+        assertNull(jar.cookieHeader(url("/")));
+    }
+
+    @Test
+    public void pathScopedCookie_onlySentUnderItsPath() throws Exception {
+        server.enqueue(new MockResponse().addHeader("Set-Cookie", "scoped=1; Path=/api/auth"));
+        call("/api/auth/sign-in/email");
+
+        assertEquals("scoped=1", jar.cookieHeader(url("/api/auth/get-session")));
+        assertNull(jar.cookieHeader(url("/api/user")));
+    }
+
+    @Test
+    public void persistentCookies_surviveRestore_sessionCookiesDoNot() {
+        HttpUrl url = url("/");
+        jar.saveFromResponse(url, List.of(
+                Cookie.parse(url, "better-auth.session_token=v1; Max-Age=3600; Path=/"),
+                Cookie.parse(url, "transient=1; Path=/")));
+
+        List<String> saved = awaitPersisted();
+        PersistentCookieJar restored = new PersistentCookieJar(saved, cookies -> { });
+
+        assertEquals("better-auth.session_token=v1", restored.cookieHeader(url));
+    }
+
+    @Test
+    public void sessionCookieWithoutExpiry_survivesRestore_whenKept() {
+        PersistentCookieJar kept = new PersistentCookieJar(Collections.emptyList(), persisted::add,
+                Collections.singleton("better-auth.session_token"));
+        HttpUrl url = url("/");
+        kept.saveFromResponse(url, List.of(
+                Cookie.parse(url, "better-auth.session_token=v1; Path=/; HttpOnly"),
+                Cookie.parse(url, "transient=1; Path=/")));
+
+        List<String> saved = awaitPersisted();
+        PersistentCookieJar restored = new PersistentCookieJar(saved, cookies -> { },
+                Collections.singleton("better-auth.session_token"));
+
+        assertEquals("better-auth.session_token=v1", restored.cookieHeader(url));
+    }
+
+    @Test
+    public void expiredSavedCookie_isDropped() {
+        HttpUrl url = url("/");
+        Cookie expired = new Cookie.Builder()
+                .name("better-auth.session_token").value("old")
+                .hostOnlyDomain(url.host()).path("/")
+                .expiresAt(System.currentTimeMillis() - 1000)
+                .build();
+
+        PersistentCookieJar restored = new PersistentCookieJar(
+                Collections.singletonList(PersistentCookieJar.encode(expired)), cookies -> { });
+
+        assertNull(restored.cookieHeader(url));
+    }
+
+    // === HELPERS ===
+
+    private void call(String path) throws Exception {
+        try (Response response = client.newCall(new Request.Builder().url(url(path)).build()).execute()) {
+            assertTrue(response.isSuccessful());
+        }
+    }
+
+    private HttpUrl url(String path) {
+        return server.url(path);
+    }
+
+    private List<String> awaitPersisted() {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (persisted.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertFalse("cookies were never persisted", persisted.isEmpty());
+        return persisted.get(persisted.size() - 1);
+    }
+}
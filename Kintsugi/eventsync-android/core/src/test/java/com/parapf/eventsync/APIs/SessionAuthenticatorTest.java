@@ -0,0 +1,165 @@
+package com.parapf.eventsync.APIs;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * 50 concurrent requests hitting an expired session against a local stand-in server.
+ */
+public class SessionAuthenticatorTest {
+
+    private static final int CONCURRENT = 50;
+
+    private MockWebServer server;
+    private CredentialStore credentials;
+    private CountDownLatch allRejected;
+    private ExecutorService pool;
+
+    private final AtomicInteger revalidations = new AtomicInteger();
+    private final List<SessionExpiredEvent> events = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        allRejected = new CountDownLatch(CONCURRENT);
+        credentials = new CredentialStore(new CredentialStore.Credentials("stale"), c -> { });
+        pool = Executors.newFixedThreadPool(CONCURRENT);
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if ("Bearer fresh".equals(request.getHeader("Authorization"))) {
+                    return new MockResponse().setBody("ok");
+                }
+                allRejected.countDown();
+                return new MockResponse().setResponseCode(401);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pool.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void refreshedSession_revalidatesOnce_andReplaysEveryRequest() throws Exception {
+        OkHttpClient client = client(() -> {
+            credentials.setToken("fresh");
+            return SessionRevalidator.Outcome.REFRESHED;
+        });
+
+        for (int code : runConcurrently(client)) {
+            assertEquals(200, code);
+        }
+        assertEquals(1, revalidations.get());
+        assertTrue(events.isEmpty());
+        // 50 rejected originals + 50 replays
+        assertEquals(2 * CONCURRENT, server.getRequestCount());
+    }
+
+    @Test
+    public void expiredSession_failsEveryRequest_withOneEvent() throws Exception {
+        OkHttpClient client = client(() -> {
+            credentials.clear();
+            return SessionRevalidator.Outcome.EXPIRED;
+        });
+
+        for (int code : runConcurrently(client)) {
+            assertEquals(401, code);
+        }
+        assertEquals(1, revalidations.get());
+        assertEquals(1, events.size());
+        // Nothing replayed
+        assertEquals(CONCURRENT, server.getRequestCount());
+    }
+
+    @Test
+    public void unavailable_passesThe401sThrough_withoutEvent() throws Exception {
+        OkHttpClient client = client(() -> SessionRevalidator.Outcome.UNAVAILABLE);
+
+        for (int code : runConcurrently(client)) {
+            assertEquals(401, code);
+        }
+        assertEquals(1, revalidations.get());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void authEndpoint401_isNotRevalidated() throws Exception {
+        OkHttpClient client = client(() -> SessionRevalidator.Outcome.REFRESHED);
+
+        try (Response response = client.newCall(new Request.Builder()
+                .url(server.url("/api/auth/sign-in/email")).build()).execute()) {
+            assertEquals(401, response.code());
+        }
+        assertEquals(0, revalidations.get());
+    }
+
+    // === HELPERS ===
+
+    private OkHttpClient client(SessionRevalidator revalidator) {
+        AuthInterceptor auth = new AuthInterceptor(credentials);
+        SessionRevalidator counting = () -> {
+            revalidations.incrementAndGet();
+            try {
+                // Hold the round open until every request has its 401, so they all pile up on it
+                assertTrue(allRejected.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return revalidator.revalidate();
+        };
+        return new OkHttpClient.Builder()
+                .addInterceptor(auth)
+                .authenticator(new SessionAuthenticator(counting, auth, event -> {
+                    synchronized (events) {
+                        events.add(event);
+                    }
+                }))
+                .build();
+    }
+
+    private List<Integer> runConcurrently(OkHttpClient client) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT; i++) {
+            Request request = new Request.Builder().url(server.url("/api/user/registrations?i=" + i)).build();
+            futures.add(pool.submit(() -> {
+                start.await();
+                try (Response response = client.newCall(request).execute()) {
+                    return response.code();
+                }
+            }));
+        }
+        start.countDown();
+
+        List<Integer> codes = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            codes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.parapf.eventsync.APIs;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SessionRefreshPolicyTest {
+
+    // 2025-11-22T09:00:00.000Z
+    private static final long EXPIRY = 1763802000000L;
+    private static final String EXPIRES_AT = "2025-11-22T09:00:00.000Z";
+
+    @Test
+    public void parsesBetterAuthTimestamp() {
+        assertEquals(EXPIRY, SessionRefreshPolicy.parseExpiresAt(EXPIRES_AT));
+        assertEquals(EXPIRY, SessionRefreshPolicy.parseExpiresAt("2025-11-22T09:00:00Z"));
+        assertEquals(EXPIRY, SessionRefreshPolicy.parseExpiresAt("2025-11-22T14:30:00.000+05:30"));
+        assertEquals(EXPIRY, SessionRefreshPolicy.parseExpiresAt("2025-11-22 09:00:00"));
+        assertEquals(-1, SessionRefreshPolicy.parseExpiresAt(null));
+        assertEquals(-1, SessionRefreshPolicy.parseExpiresAt("soon"));
+    }
+
+    @Test
+    public void unknownExpiry_noRefresh() {
+        assertEquals(-1, SessionRefreshPolicy.delayMillis(null, EXPIRY, new Random(1)));
+    }
+
+    @Test
+    public void refreshesBeforeExpiry_withinJitterWindow() {
+        long now = EXPIRY - TimeUnit.HOURS.toMillis(5);
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long delay = SessionRefreshPolicy.delayMillis(EXPIRES_AT, now, random);
+            long refreshAt = now + delay;
+            assertTrue(refreshAt <= EXPIRY - SessionRefreshPolicy.LEAD_MILLIS);
+            assertTrue(refreshAt >= EXPIRY - SessionRefreshPolicy.LEAD_MILLIS - SessionRefreshPolicy.JITTER_MILLIS);
+        }
+    }
+
+    @Test
+    public void jitter_spreadsDevicesWithTheSameExpiry() {
+        long now = EXPIRY - TimeUnit.HOURS.toMillis(5);
+        long early = SessionRefreshPolicy.delayMillis(EXPIRES_AT, now, fixed(0.9));
+        long late = SessionRefreshPolicy.delayMillis(EXPIRES_AT, now, fixed(0.0));
+        assertEquals((long) (0.9 * SessionRefreshPolicy.JITTER_MILLIS), late - early);
+    }
+
+    @Test
+    public void insideLeadWindow_refreshesSoon() {
+        long now = EXPIRY - TimeUnit.MINUTES.toMillis(10);
+        long delay = SessionRefreshPolicy.delayMillis(EXPIRES_AT, now, new Random(3));
+        assertTrue(delay >= SessionRefreshPolicy.MIN_DELAY_MILLIS);
+        assertTrue(delay < 2 * SessionRefreshPolicy.MIN_DELAY_MILLIS);
+    }
+
+    @Test
+    public void farExpiry_cappedAtOneDay() {
+        long now = EXPIRY - TimeUnit.DAYS.toMillis(7);
+        long delay = SessionRefreshPolicy.delayMillis(EXPIRES_AT, now, new Random(4));
+        assertTrue(delay <= SessionRefreshPolicy.MAX_DELAY_MILLIS);
+        assertTrue(delay >= SessionRefreshPolicy.MAX_DELAY_MILLIS - SessionRefreshPolicy.JITTER_MILLIS);
+    }
+
+    /** Always draws the same value, so delays are exact */
+    private static Random fixed(double draw) {
+        return new Random() {
+            @Override
+            public double nextDouble() {
+                return draw;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.parapf.eventsync.APIs;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class UserSessionManagerTest {
+
+    private final UserSessionManager manager = UserSessionManager.getInstance();
+
+    @After
+    public void tearDown() {
+        manager.clearSession();
+    }
+
+    @Test
+    public void readersNeverSeeHalfAnUpdate() throws Exception {
+        SessionSnapshot manager1 = session("u1", "manager");
+        SessionSnapshot admin2 = session("u2", "admin");
+        AtomicBoolean torn = new AtomicBoolean();
+        AtomicBoolean stop = new AtomicBoolean();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                while (!stop.get()) {
+                    SessionSnapshot s = manager.getSnapshot();
+                    if (s.getUserId() == null) continue;
+                    boolean consistent = "u1".equals(s.getUserId()) ? s.isManager() : s.isAdmin();
+                    if (!consistent) torn.set(true);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            manager.setSnapshot((i & 1) == 0 ? manager1 : admin2);
+        }
+        stop.set(true);
+        for (Thread reader : readers) reader.join();
+
+        assertFalse(torn.get());
+    }
+
+    @Test
+    public void saveUserData_keepsSession_andNotifiesOnce() {
+        manager.setSnapshot(session("u1", "user"));
+        AtomicInteger calls = new AtomicInteger();
+        UserSessionManager.Listener listener = s -> calls.incrementAndGet();
+        manager.addListener(listener);
+        try {
+            UserData promoted = new UserData();
+            promoted.setId("u1");
+            promoted.setRole("manager");
+            manager.saveUserData(promoted);
+        } finally {
+            manager.removeListener(listener);
+        }
+
+        assertEquals(1, calls.get());
+        assertTrue(manager.isManager());
+        assertEquals("token-u1", manager.getSessionToken());
+        assertTrue(manager.isAuthenticated());
+    }
+
+    @Test
+    public void racingWriters_lastNotificationIsTheNewestSnapshot() throws Exception {
+        SessionSnapshot first = session("u1", "user");
+        SessionSnapshot second = session("u2", "admin");
+        AtomicReference<SessionSnapshot> lastHeard = new AtomicReference<>();
+
+        // The first writer is descheduled inside its notification until the second writer has
+        // swapped in its snapshot
+        UserSessionManager.Listener listener = s -> {
+            if (s == first) {
+                long deadline = System.currentTimeMillis() + 2000;
+                while (manager.getSnapshot() != second && System.currentTimeMillis() < deadline) {
+                    Thread.yield();
+                }
+            }
+            lastHeard.set(s);
+        };
+        manager.addListener(listener);
+        try {
+            Thread writerA = new Thread(() -> manager.setSnapshot(first));
+            writerA.start();
+            while (manager.getSnapshot() != first) {
+                Thread.yield();
+            }
+            Thread writerB = new Thread(() -> manager.setSnapshot(second));
+            writerB.start();
+
+            writerA.join(5000);
+            writerB.join(5000);
+        } finally {
+            manager.removeListener(listener);
+        }
+
+        assertSame(second, manager.getSnapshot());
+        assertSame(second, lastHeard.get());
+    }
+
+    @Test
+    public void clearSession_publishesEmpty() {
+        manager.setSnapshot(session("u1", "admin"));
+        manager.clearSession();
+
+        assertSame(SessionSnapshot.EMPTY, manager.getSnapshot());
+        assertFalse(manager.isAuthenticated());
+        assertFalse(manager.isAdmin());
+    }
+
+    private static SessionSnapshot session(String userId, String role) {
+        return SessionSnapshot.newBuilder()
+                .sessionToken("token-" + userId)
+                .sessionUserId(userId)
+                .userRole(role)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.parapf.eventsync.data;
+
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+import com.parapf.eventsync.APIs.Responses.EventsListResponse;
+import com.parapf.eventsync.models.EventModel;
+import com.parapf.eventsync.models.RegistrationModel;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class DeferredEventRepositoryTest {
+
+    @Test
+    public void callWaitsForTheDelegate() throws Exception {
+        CompletableFuture<EventRepository> pending = new CompletableFuture<>();
+        DeferredEventRepository repository = new DeferredEventRepository(pending);
+        AtomicReference<List<EventModel>> result = new AtomicReference<>();
+
+        Thread caller = new Thread(() -> {
+            try {
+                result.set(repository.getMyEvents());
+            } catch (IOException e) {
+                fail(e.toString());
+            }
+        });
+        caller.start();
+        caller.join(100);
+        assertTrue("returned before the client was ready", caller.isAlive());
+
+        pending.complete(new Fixed());
+        caller.join(2000);
+        assertEquals(Collections.emptyList(), result.get());
+    }
+
+    @Test
+    public void failedInit_surfacesAsIOException() {
+        CompletableFuture<EventRepository> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("no network stack"));
+        DeferredEventRepository repository = new DeferredEventRepository(failed);
+
+        try {
+            repository.getRegistrations();
+            fail("expected IOException");
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    private static final class Fixed implements EventRepository {
+        @Override
+        public EventsListResponse.Data getEvents(int page, int limit) { return null; }
+
+        @Override
+        public EventResponse.EventData getEvent(String eventId) { return null; }
+
+        @Override
+        public List<EventModel> getMyEvents() { return Collections.emptyList(); }
+
+        @Override
+        public List<RegistrationModel> getRegistrations() { return Collections.emptyList(); }
+    }
+}
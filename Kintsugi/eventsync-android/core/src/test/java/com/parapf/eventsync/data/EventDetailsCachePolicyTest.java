@@ -0,0 +1,79 @@
+package com.parapf.eventsync.data;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.parapf.eventsync.APIs.Adapters.ModelTypeAdapterFactory;
+import com.parapf.eventsync.APIs.Responses.EventResponse;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EventDetailsCachePolicyTest {
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .create();
+
+    @Test
+    public void sameEventAndPageVersions_areTheSameVersion() {
+        EventResponse.EventData a = event("\"updatedAt\":\"v1\",\"page\":{\"updatedAt\":\"p1\",\"blocks\":[]}");
+        EventResponse.EventData b = event("\"updatedAt\":\"v1\",\"page\":{\"updatedAt\":\"p1\",\"blocks\":[]}");
+
+        assertTrue(EventDetailsCachePolicy.isSameVersion(a, b));
+    }
+
+    @Test
+    public void changedPage_isANewVersion() {
+        EventResponse.EventData a = event("\"updatedAt\":\"v1\",\"page\":{\"updatedAt\":\"p1\"}");
+        EventResponse.EventData b = event("\"updatedAt\":\"v1\",\"page\":{\"updatedAt\":\"p2\"}");
+
+        assertFalse(EventDetailsCachePolicy.isSameVersion(a, b));
+    }
+
+    @Test
+    public void missingUpdatedAt_countsAsChanged() {
+        EventResponse.EventData versioned = event("\"updatedAt\":\"v1\"");
+        EventResponse.EventData unversioned = event("\"title\":\"Hack\"");
+
+        assertFalse(EventDetailsCachePolicy.isSameVersion(unversioned, event("\"title\":\"Hack\"")));
+        assertFalse(EventDetailsCachePolicy.isSameVersion(versioned, unversioned));
+        assertFalse(EventDetailsCachePolicy.isSameVersion(unversioned, versioned));
+    }
+
+    @Test
+    public void nullPage_onlyMatchesNullPage() {
+        EventResponse.EventData noPage = event("\"updatedAt\":\"v1\"");
+        EventResponse.EventData withPage = event("\"updatedAt\":\"v1\",\"page\":{\"updatedAt\":\"p1\"}");
+
+        assertTrue(EventDetailsCachePolicy.isSameVersion(noPage, event("\"updatedAt\":\"v1\"")));
+        assertFalse(EventDetailsCachePolicy.isSameVersion(noPage, withPage));
+        assertFalse(EventDetailsCachePolicy.isSameVersion(withPage, noPage));
+    }
+
+    @Test
+    public void estimateBytes_handlesMissingFieldsAndPage() {
+        int empty = EventDetailsCachePolicy.estimateBytes(event(""));
+        int titled = EventDetailsCachePolicy.estimateBytes(event("\"title\":\"Hack\""));
+
+        assertTrue(empty > 0);
+        // 4 more chars of a new String
+        assertTrue(titled > empty + 8);
+    }
+
+    @Test
+    public void estimateBytes_growsWithPageBlocks() {
+        int small = EventDetailsCachePolicy.estimateBytes(event(
+                "\"page\":{\"blocks\":[{\"type\":\"text\",\"content\":\"hi\"}]}"));
+        int large = EventDetailsCachePolicy.estimateBytes(event(
+                "\"page\":{\"blocks\":[{\"type\":\"text\",\"content\":\"" + "x".repeat(10_000) + "\","
+                        + "\"style\":{\"color\":\"#fff\"}}]}"));
+
+        assertTrue(large > small + 20_000);
+    }
+
+    private EventResponse.EventData event(String fields) {
+        return gson.fromJson("{\"id\":\"e1\"" + (fields.isEmpty() ? "" : "," + fields) + "}",
+                EventResponse.EventData.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.parapf.eventsync.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class TimelineFormatterTest {
+
+    private TimeZone defaultZone;
+
+    @Before
+    public void pinZone() {
+        defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+    }
+
+    @After
+    public void restoreZone() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    public void formatRange_sameDay() {
+        assertEquals("Nov 22, 2025 09:00 - 17:00",
+                TimelineFormatter.formatRange("2025-11-22T09:00:00.000Z", "2025-11-22T17:00:00.000Z"));
+    }
+
+    @Test
+    public void formatRange_acrossDays() {
+        assertEquals("Nov 22, 2025 09:00 - Nov 23, 2025 17:00",
+                TimelineFormatter.formatRange("2025-11-22T09:00:00.000Z", "2025-11-23T17:00:00.000Z"));
+    }
+
+    @Test
+    public void formatRange_acceptsEveryBackendFormat() {
+        assertEquals("Nov 22, 2025 09:00 - Nov 23, 2025 17:00",
+                TimelineFormatter.formatRange("2025-11-22 09:00:00", "2025-11-23 17:00:00"));
+        assertEquals("Nov 22, 2025 09:00 - 17:00",
+                TimelineFormatter.formatRange("2025-11-22T09:00:00Z", "2025-11-22T17:00:00.000Z"));
+        assertEquals("Nov 22, 2025 09:00 - 17:00",
+                TimelineFormatter.formatRange("2025-11-22T14:30:00+05:30", "2025-11-22T17:00:00Z"));
+    }
+
+    @Test
+    public void formatRange_unparseableFallsBackToDates() {
+        assertEquals("2025-11-22 to 2025-11-23",
+                TimelineFormatter.formatRange("2025-11-22 someday", "2025-11-23 later"));
+        assertEquals(TimelineFormatter.NOT_AVAILABLE, TimelineFormatter.formatRange(null, null));
+        assertEquals(TimelineFormatter.NOT_AVAILABLE, TimelineFormatter.formatRange("soon", "later"));
+    }
+
+    @Test
+    public void formatRange_memoizedPerZone() {
+        String start = "2025-11-22T09:00:00.000Z";
+        String end = "2025-11-22T17:00:00.000Z";
+        String utc = TimelineFormatter.formatRange(start, end, Locale.US, ZoneId.of("UTC"));
+
+        assertSame(utc, TimelineFormatter.formatRange(start, end, Locale.US, ZoneId.of("UTC")));
+        assertEquals("Nov 22, 2025 14:30 - 22:30",
+                TimelineFormatter.formatRange(start, end, Locale.US, ZoneId.of("Asia/Kolkata")));
+    }
+
+    @Test
+    public void formatDate_handlesBothBackendFormats() {
+        assertNotEquals("2025-11-22T09:00:00.000Z", TimelineFormatter.formatDate("2025-11-22T09:00:00.000Z"));
+        assertNotEquals("2025-11-22 09:00:00", TimelineFormatter.formatDate("2025-11-22 09:00:00"));
+        assertEquals("tomorrow", TimelineFormatter.formatDate("tomorrow"));
+        assertEquals("N/A", TimelineFormatter.formatDate(null));
+    }
+}
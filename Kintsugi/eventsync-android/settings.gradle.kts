@@ -21,4 +21,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "EventSync"
 include(":app")
- 
\ No newline at end of file
+include(":core")
+include(":benchmark")